@@ -0,0 +1,17 @@
+package com.itacademy.blackjack.config;
+
+import com.itacademy.blackjack.game.domain.model.BasicStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class BasicStrategyConfig {
+
+    /**
+     * The shipped table, read once at startup; the application does not start without it.
+     */
+    @Bean
+    public BasicStrategy basicStrategy() {
+        return BasicStrategy.load();
+    }
+}
@@ -0,0 +1,23 @@
+package com.itacademy.blackjack.config;
+
+import org.bson.UuidRepresentation;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+@Configuration
+public class MongoConfig {
+
+    /**
+     * Writes {@link java.util.UUID} values as BSON binary subtype 4 (16 big-endian bytes)
+     * instead of strings or the legacy Java byte order. Runs after the property-based
+     * customizer, which would otherwise reset it to the Boot default.
+     */
+    @Bean
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public MongoClientSettingsBuilderCustomizer standardUuidRepresentation() {
+        return builder -> builder.uuidRepresentation(UuidRepresentation.STANDARD);
+    }
+}
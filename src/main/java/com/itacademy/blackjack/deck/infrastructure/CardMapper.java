@@ -1,8 +1,6 @@
 package com.itacademy.blackjack.deck.infrastructure;
 
 import com.itacademy.blackjack.deck.model.Card;
-import com.itacademy.blackjack.deck.model.CardRank;
-import com.itacademy.blackjack.deck.model.Suit;
 import com.itacademy.blackjack.game.domain.model.CardData;
 
 public class CardMapper {
@@ -14,10 +12,7 @@ public class CardMapper {
         if (cardData == null) {
             return null;
         }
-        return new Card(
-                CardRank.valueOf(cardData.rank()),
-                Suit.valueOf(cardData.suit())
-        );
+        return Card.parse(cardData.rank(), cardData.suit());
     }
 
     /**
@@ -5,16 +5,50 @@ import com.itacademy.blackjack.game.domain.model.CardData;
 
 public record Card(CardRank cardRank, Suit suit) {
 
+    private static final int RANKS = CardRank.values().length;
+
+    // Canonical instances indexed by ordinal (suit ordinal * 13 + rank ordinal)
+    private static final Card[] CARDS = new Card[RANKS * Suit.values().length];
+
+    static {
+        for (Suit suit : Suit.values()) {
+            for (CardRank cardRank : CardRank.values()) {
+                CARDS[suit.ordinal() * RANKS + cardRank.ordinal()] = new Card(cardRank, suit);
+            }
+        }
+    }
+
     public Card(CardRank cardRank, Suit suit) {
         this.cardRank = cardRank;
         this.suit = suit;
     }
 
+    public static Card of(CardRank cardRank, Suit suit) {
+        return CARDS[suit.ordinal() * RANKS + cardRank.ordinal()];
+    }
+
+    public static Card ofOrdinal(int ordinal) {
+        return CARDS[ordinal];
+    }
+
+    /**
+     * Resolves persisted rank and suit names (e.g. "ACE", "SPADES") to the canonical card.
+     */
+    public static Card parse(String rank, String suit) {
+        CardRank cardRank = CardRank.fromName(rank);
+        Suit cardSuit = Suit.fromName(suit);
+        if (cardRank == null || cardSuit == null) {
+            throw new IllegalArgumentException("Unknown card: " + rank + " of " + suit);
+        }
+        return of(cardRank, cardSuit);
+    }
+
     public static Card fromData(CardData data) {
-        return new Card(
-                CardRank.valueOf(data.rank()),
-                Suit.valueOf(data.suit())
-        );
+        return parse(data.rank(), data.suit());
+    }
+
+    public int ordinal() {
+        return suit.ordinal() * RANKS + cardRank.ordinal();
     }
 
     public CardRank getRank() {
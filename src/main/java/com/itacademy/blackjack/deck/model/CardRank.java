@@ -1,5 +1,8 @@
 package com.itacademy.blackjack.deck.model;
 
+import java.util.HashMap;
+import java.util.Map;
+
 public enum CardRank {
     ACE("A", 1),
     TWO("2", 2),
@@ -15,6 +18,14 @@ public enum CardRank {
     QUEEN("Q", 10),
     KING("K", 10);
 
+    private static final Map<String, CardRank> BY_NAME = new HashMap<>();
+
+    static {
+        for (CardRank rank : values()) {
+            BY_NAME.put(rank.name(), rank);
+        }
+    }
+
     private final String symbol;
     private final int numericValue;
 
@@ -30,4 +41,13 @@ public enum CardRank {
     public int getNumericValue() {
         return numericValue;
     }
+
+    /**
+     * Lookup by enum name without the exception thrown by {@link #valueOf(String)}.
+     *
+     * @return the rank, or {@code null} if the name is unknown
+     */
+    public static CardRank fromName(String name) {
+        return name == null ? null : BY_NAME.get(name);
+    }
 }
@@ -1,44 +1,134 @@
 package com.itacademy.blackjack.deck.model;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
-public record Deck(List<Card> cards) {
+/**
+ * Shoe of one or more 52-card decks.
+ * <p>
+ * Cards are kept as byte codes ({@link Card#ordinal()}) and drawn by moving a
+ * cursor and returning the canonical {@link Card} instance, so drawing never
+ * allocates. Shuffling is an in-place Fisher-Yates over the undrawn part of the shoe.
+ */
+public final class Deck {
+
+    public static final int CARDS_PER_DECK = 52;
+
+    // First byte of a shoe state: flag bit plus the deck count. Card codes never set the flag.
+    private static final int DECKS_HEADER = 0x80;
+    private static final int MAX_DECKS = 0x7F;
+
+    private final byte[] codes;
+    private final RandomGenerator random;
+    private int cursor;
 
     public Deck() {
-        this(new ArrayList<>());
-        initialize();
-        shuffle();
+        this(1);
     }
 
-    private void initialize() {
-        cards.clear();
-        for (Suit suit : Suit.values()) {
-            for (CardRank cardRank : CardRank.values()) {
-                cards.add(new Card(cardRank, suit));
+    public Deck(int decks) {
+        this(decks, null);
+    }
+
+    public Deck(RandomGenerator random) {
+        this(1, random);
+    }
+
+    /**
+     * @param random generator used to shuffle, or {@code null} for {@link ThreadLocalRandom}
+     */
+    public Deck(int decks, RandomGenerator random) {
+        if (decks < 1 || decks > MAX_DECKS) {
+            throw new IllegalArgumentException("A shoe holds 1 to " + MAX_DECKS + " decks");
+        }
+        this.codes = new byte[decks * CARDS_PER_DECK];
+        this.random = random;
+        reset();
+    }
+
+    // Full-size shoe of the given decks whose last cards are the remaining ones, the rest drawn
+    private Deck(int decks, byte[] remaining, int from) {
+        int length = decks * CARDS_PER_DECK;
+        int size = remaining.length - from;
+        if (size > length) {
+            throw new IllegalArgumentException(size + " cards do not fit in " + decks + " deck(s)");
+        }
+        this.codes = new byte[length];
+        this.random = null;
+        this.cursor = length - size;
+        System.arraycopy(remaining, from, codes, cursor, size);
+    }
+
+    /**
+     * Restores a deck from its packed shoe state (see {@link #toShoeState()}).
+     * The card order is kept as-is, no reshuffle is performed. States written before
+     * the deck count was stored hold cards only and restore as a single deck.
+     */
+    public static Deck fromShoeState(byte[] shoeState) {
+        if (shoeState.length > 0 && (shoeState[0] & DECKS_HEADER) != 0) {
+            return new Deck(shoeState[0] & MAX_DECKS, shoeState, 1);
+        }
+        return new Deck(1, shoeState, 0);
+    }
+
+    /**
+     * Builds a shuffled deck without the cards that are already on the table.
+     * Used for games persisted before the shoe state was stored.
+     */
+    public static Deck without(List<Card> dealtCards) {
+        byte[] codes = new byte[CARDS_PER_DECK];
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = (byte) i;
+        }
+        int size = codes.length;
+        for (Card card : dealtCards) {
+            int code = card.ordinal();
+            for (int i = 0; i < size; i++) {
+                if (codes[i] == code) {
+                    codes[i] = codes[--size];
+                    break;
+                }
             }
         }
+        Deck deck = new Deck(1, Arrays.copyOf(codes, size), 0);
+        deck.shuffle();
+        return deck;
+    }
+
+    private void initialize() {
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = (byte) (i % CARDS_PER_DECK);
+        }
+        cursor = 0;
     }
 
     public void shuffle() {
-        Collections.shuffle(cards);
+        RandomGenerator rnd = random != null ? random : ThreadLocalRandom.current();
+        for (int i = codes.length - 1; i > cursor; i--) {
+            int j = cursor + rnd.nextInt(i - cursor + 1);
+            byte tmp = codes[i];
+            codes[i] = codes[j];
+            codes[j] = tmp;
+        }
     }
 
     public Card draw() {
-        if (cards.isEmpty()) {
+        if (cursor == codes.length) {
             throw new NoSuchElementException("The deck is empty");
         }
-        return cards.removeLast();
+        return Card.ofOrdinal(codes[cursor++]);
     }
 
     public int size() {
-        return cards.size();
+        return codes.length - cursor;
     }
 
     public boolean isEmpty() {
-        return cards.isEmpty();
+        return cursor == codes.length;
     }
 
     public void reset() {
@@ -47,6 +137,31 @@ public record Deck(List<Card> cards) {
     }
 
     public List<Card> getCardsSnapshot() {
+        List<Card> cards = new ArrayList<>(size());
+        for (int i = cursor; i < codes.length; i++) {
+            cards.add(Card.ofOrdinal(codes[i]));
+        }
         return List.copyOf(cards);
     }
+
+    /**
+     * Adds the remaining cards to {@code counts}, indexed by numeric value (1 for an
+     * ace up to 10 for tens and faces). Index 0 is left alone.
+     */
+    public void countValues(int[] counts) {
+        for (int i = cursor; i < codes.length; i++) {
+            counts[Card.ofOrdinal(codes[i]).getNumericValue()]++;
+        }
+    }
+
+    /**
+     * Packs the shoe as a header byte holding the deck count, then the remaining cards
+     * in draw order as one byte per card ({@link Card#ordinal()}).
+     */
+    public byte[] toShoeState() {
+        byte[] state = new byte[1 + size()];
+        state[0] = (byte) (DECKS_HEADER | codes.length / CARDS_PER_DECK);
+        System.arraycopy(codes, cursor, state, 1, size());
+        return state;
+    }
 }
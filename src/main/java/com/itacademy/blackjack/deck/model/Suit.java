@@ -1,11 +1,22 @@
 package com.itacademy.blackjack.deck.model;
 
+import java.util.HashMap;
+import java.util.Map;
+
 public enum Suit {
     CLUBS("Clubs"),
     DIAMONDS("Diamonds"),
     HEARTS("Hearts"),
     SPADES("Spades");
 
+    private static final Map<String, Suit> BY_NAME = new HashMap<>();
+
+    static {
+        for (Suit suit : values()) {
+            BY_NAME.put(suit.name(), suit);
+        }
+    }
+
     private final String displayName;
 
     Suit(String displayName) {
@@ -15,4 +26,13 @@ public enum Suit {
     public String getDisplayName() {
         return displayName;
     }
+
+    /**
+     * Lookup by enum name without the exception thrown by {@link #valueOf(String)}.
+     *
+     * @return the suit, or {@code null} if the name is unknown
+     */
+    public static Suit fromName(String name) {
+        return name == null ? null : BY_NAME.get(name);
+    }
 }
@@ -1,6 +1,7 @@
 package com.itacademy.blackjack.exception;
 
 
+import com.itacademy.blackjack.game.domain.model.exception.GameConflictException;
 import com.itacademy.blackjack.game.domain.model.exception.MissingIdentifierException;
 import com.itacademy.blackjack.game.domain.model.exception.NotPlayerTurnException;
 import com.itacademy.blackjack.game.domain.model.exception.ResourceNotFoundException;
@@ -42,4 +43,28 @@ public class GlobalExceptionHandler {
         );
     }
 
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidRequestException(InvalidRequestException ex) {
+        return new ResponseEntity<>(
+                new ErrorResponse(ex.getMessage(), HttpStatus.BAD_REQUEST.value()),
+                HttpStatus.BAD_REQUEST
+        );
+    }
+
+    @ExceptionHandler(GameConflictException.class)
+    public ResponseEntity<ErrorResponse> handleGameConflictException(GameConflictException ex) {
+        return new ResponseEntity<>(
+                new ErrorResponse(ex.getMessage(), HttpStatus.CONFLICT.value()),
+                HttpStatus.CONFLICT
+        );
+    }
+
+    @ExceptionHandler(PlayerConflictException.class)
+    public ResponseEntity<ErrorResponse> handlePlayerConflictException(PlayerConflictException ex) {
+        return new ResponseEntity<>(
+                new ErrorResponse(ex.getMessage(), HttpStatus.CONFLICT.value()),
+                HttpStatus.CONFLICT
+        );
+    }
+
 }
@@ -0,0 +1,8 @@
+package com.itacademy.blackjack.exception;
+
+
+public class PlayerConflictException extends RuntimeException {
+    public PlayerConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,100 @@
+package com.itacademy.blackjack.game.application;
+
+import com.itacademy.blackjack.game.domain.model.DealerOdds;
+import com.itacademy.blackjack.game.domain.model.DealerOddsCalculator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Crupier odds for {@link GameService}. Each thread gets its own
+ * {@link DealerOddsCalculator}, so request threads never wait on each other and their
+ * memos stay warm across games: every single-deck game starts from the same 52 cards,
+ * so the states reached from one upcard repeat at every table.
+ * <p>
+ * The odds of every opening deal are computed at startup: each upcard against a fresh
+ * deck without it and without the player's two cards, 550 states in all. Those are the
+ * unseen cards of every freshly dealt game, the hole card included, so odds asked for
+ * before the player draws are read from that table.
+ */
+@Service
+public class DealerOddsService {
+
+    private static final String METRIC_PREFIX = "blackjack.odds";
+    private static final int[] FULL_DECK = DealerOddsCalculator.shoeCounts(1);
+
+    private final ThreadLocal<DealerOddsCalculator> calculators;
+    // [upcard][lower player card][higher player card], by numeric value
+    private final DealerOdds[][][] openings = new DealerOdds[11][11][11];
+
+    private final Counter fromTable;
+    private final Counter computed;
+
+    public DealerOddsService(MeterRegistry meterRegistry,
+                             @Value("${blackjack.odds.memo-capacity:16384}") int memoCapacity) {
+        this.calculators = ThreadLocal.withInitial(() -> new DealerOddsCalculator(memoCapacity));
+        this.fromTable = Counter.builder(METRIC_PREFIX + ".requests").tag("result", "table").register(meterRegistry);
+        this.computed = Counter.builder(METRIC_PREFIX + ".requests").tag("result", "computed").register(meterRegistry);
+    }
+
+    @PostConstruct
+    void precomputeOpenings() {
+        DealerOddsCalculator calculator = calculators.get();
+        for (int upcard = 1; upcard <= 10; upcard++) {
+            for (int first = 1; first <= 10; first++) {
+                for (int second = first; second <= 10; second++) {
+                    int[] unseen = FULL_DECK.clone();
+                    unseen[upcard]--;
+                    unseen[first]--;
+                    unseen[second]--;
+                    openings[upcard][first][second] = calculator.fromUpcard(upcard, unseen);
+                }
+            }
+        }
+    }
+
+    /**
+     * @param upcardValue the crupier's upcard, 1 for an ace
+     * @param unseen      counts per value of every card the player cannot see, the hole
+     *                    card included (see {@link DealerOddsCalculator})
+     */
+    public DealerOdds fromUpcard(int upcardValue, int[] unseen) {
+        DealerOdds opening = opening(upcardValue, unseen);
+        if (opening != null) {
+            fromTable.increment();
+            return opening;
+        }
+        computed.increment();
+        return calculators.get().fromUpcard(upcardValue, unseen);
+    }
+
+    // The table entry when unseen is a fresh deck without the upcard and exactly two other cards
+    private DealerOdds opening(int upcardValue, int[] unseen) {
+        int first = 0;
+        int second = 0;
+        int removed = 0;
+        for (int value = 1; value <= 10; value++) {
+            int gone = FULL_DECK[value] - unseen[value] - (value == upcardValue ? 1 : 0);
+            if (gone < 0 || removed + gone > 2) {
+                return null;
+            }
+            for (; gone > 0; gone--, removed++) {
+                if (removed == 0) {
+                    first = value;
+                } else {
+                    second = value;
+                }
+            }
+        }
+        return removed == 2 ? openings[upcardValue][first][second] : null;
+    }
+
+    /**
+     * Odds precomputed for an opening deal, the player's cards in either order.
+     */
+    DealerOdds opening(int upcardValue, int firstCard, int secondCard) {
+        return openings[upcardValue][Math.min(firstCard, secondCard)][Math.max(firstCard, secondCard)];
+    }
+}
@@ -0,0 +1,144 @@
+package com.itacademy.blackjack.game.application;
+
+import com.itacademy.blackjack.game.application.dto.GameEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * One event channel per live game, fed by {@link GameService} after each saved action.
+ * <p>
+ * A channel replays its last {@code blackjack.game-events.buffer-size} events to new
+ * subscribers, so a client that connects right after starting a game still sees the
+ * initial deal; older events are dropped, the buffer never grows past that. A channel
+ * completes when its game finishes or is deleted, or after {@code idle-timeout} without
+ * events for games that were abandoned.
+ * <p>
+ * A finished game's channel is swapped for a tombstone that replays only the
+ * {@link GameEvent.GameFinished} and completes, kept until the idle sweep. A client
+ * that saw the game live and subscribes just after it finished gets that event instead
+ * of a fresh channel nobody will ever publish to.
+ * <p>
+ * Channels are local to this node: only actions handled here are pushed.
+ */
+@Component
+public class GameEventHub {
+
+    private final int bufferSize;
+    private final long idleTimeoutNanos;
+    private final Duration idleTimeout;
+
+    private final Map<UUID, Channel> channels = new ConcurrentHashMap<>();
+
+    private Disposable sweeper;
+
+    public GameEventHub(MeterRegistry meterRegistry,
+                        @Value("${blackjack.game-events.buffer-size:32}") int bufferSize,
+                        @Value("${blackjack.game-events.idle-timeout:10m}") Duration idleTimeout) {
+        this.bufferSize = bufferSize;
+        this.idleTimeout = idleTimeout;
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+
+        Gauge.builder("blackjack.games.events.channels", channels, Map::size).register(meterRegistry);
+    }
+
+    @PostConstruct
+    void startSweeper() {
+        sweeper = Flux.interval(idleTimeout)
+                .onBackpressureDrop()
+                .subscribe(tick -> closeIdle());
+    }
+
+    @PreDestroy
+    void stopSweeper() {
+        if (sweeper != null) {
+            sweeper.dispose();
+        }
+        channels.keySet().forEach(this::close);
+    }
+
+    /**
+     * Events of the game from the oldest one still buffered on. Completes when the
+     * game finishes.
+     */
+    public Flux<GameEvent> events(UUID gameId) {
+        return channel(gameId).sink.asFlux();
+    }
+
+    /**
+     * Pushes the events in order; a {@link GameEvent.GameFinished} closes the channel.
+     */
+    public void publish(UUID gameId, List<GameEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        Channel channel = channel(gameId);
+        // Sinks reject concurrent emissions; actions of one game may run on several threads
+        synchronized (channel) {
+            channel.lastEvent = System.nanoTime();
+            for (GameEvent event : events) {
+                channel.sink.tryEmitNext(event);
+                if (event instanceof GameEvent.GameFinished finished) {
+                    channels.put(gameId, Channel.finished(finished));
+                    channel.sink.tryEmitComplete();
+                    return;
+                }
+            }
+        }
+    }
+
+    public void close(UUID gameId) {
+        Channel channel = channels.remove(gameId);
+        if (channel != null) {
+            synchronized (channel) {
+                channel.sink.tryEmitComplete();
+            }
+        }
+    }
+
+    private Channel channel(UUID gameId) {
+        return channels.computeIfAbsent(gameId, id -> new Channel(bufferSize));
+    }
+
+    void closeIdle() {
+        long now = System.nanoTime();
+        channels.forEach((gameId, channel) -> {
+            if (now - channel.lastEvent > idleTimeoutNanos) {
+                close(gameId);
+            }
+        });
+    }
+
+    int size() {
+        return channels.size();
+    }
+
+    private static final class Channel {
+        final Sinks.Many<GameEvent> sink;
+        // Guarded by the channel monitor; read unlocked by the sweeper
+        volatile long lastEvent = System.nanoTime();
+
+        Channel(int bufferSize) {
+            this.sink = Sinks.many().replay().limit(bufferSize);
+        }
+
+        static Channel finished(GameEvent.GameFinished event) {
+            Channel tombstone = new Channel(1);
+            tombstone.sink.tryEmitNext(event);
+            tombstone.sink.tryEmitComplete();
+            return tombstone;
+        }
+    }
+}
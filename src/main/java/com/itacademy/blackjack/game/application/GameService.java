@@ -1,35 +1,72 @@
 package com.itacademy.blackjack.game.application;
 
 import com.itacademy.blackjack.deck.model.Card;
+import com.itacademy.blackjack.exception.InvalidRequestException;
 import com.itacademy.blackjack.game.application.dto.CardResponse;
+import com.itacademy.blackjack.game.application.dto.DealerOddsResponse;
+import com.itacademy.blackjack.game.application.dto.GameEvent;
 import com.itacademy.blackjack.game.application.dto.GameResponse;
+import com.itacademy.blackjack.game.application.dto.HintResponse;
 import com.itacademy.blackjack.game.application.dto.PlayerResponse;
+import com.itacademy.blackjack.game.domain.model.BasicStrategy;
 import com.itacademy.blackjack.game.domain.model.Crupier;
+import com.itacademy.blackjack.game.domain.model.DealerOdds;
 import com.itacademy.blackjack.game.domain.model.Game;
 import com.itacademy.blackjack.game.domain.model.GameResult;
+import com.itacademy.blackjack.game.domain.model.GameStatus;
+import com.itacademy.blackjack.game.domain.model.Hand;
+import com.itacademy.blackjack.game.domain.model.exception.GameConflictException;
+import com.itacademy.blackjack.game.domain.model.exception.NotPlayerTurnException;
 import com.itacademy.blackjack.game.domain.model.exception.ResourceNotFoundException;
 import com.itacademy.blackjack.game.infrastructure.persistence.mongo.repository.GameRepository;
 import com.itacademy.blackjack.player.domain.model.Player;
+import com.itacademy.blackjack.shared.Uuids;
 import com.itacademy.blackjack.player.application.PlayerService;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+/**
+ * Game use cases. Games come from the {@link GameRepository}, which keeps live games
+ * in memory (see {@code ActiveGameStore}), so a game instance may be shared by
+ * concurrent requests: every domain action runs while holding the game's monitor.
+ * Across nodes, writes are checked against the stored version (see {@link #applyAction}).
+ */
 @Slf4j
 @Service
 public class GameService {
 
+    private static final Retry CONFLICT_RETRY = Retry.backoff(3, Duration.ofMillis(20))
+            .filter(GameConflictException.class::isInstance)
+            .onRetryExhaustedThrow((spec, signal) -> signal.failure());
+
     private final PlayerService playerService;
     private final GameRepository gameRepository;
+    private final GameEventHub eventHub;
+    private final DealerOddsService dealerOdds;
+    private final HintService hintService;
+    private final BasicStrategy basicStrategy;
 
-    public GameService(PlayerService playerService, GameRepository gameRepository) {
+    public GameService(PlayerService playerService, GameRepository gameRepository, GameEventHub eventHub,
+                       DealerOddsService dealerOdds, HintService hintService, BasicStrategy basicStrategy) {
         this.playerService = playerService;
         this.gameRepository = gameRepository;
+        this.eventHub = eventHub;
+        this.dealerOdds = dealerOdds;
+        this.hintService = hintService;
+        this.basicStrategy = basicStrategy;
     }
 
     public Mono<GameResponse> startNewGame(UUID playerId) {
@@ -37,29 +74,40 @@ public class GameService {
                 .switchIfEmpty(Mono.error(new ResourceNotFoundException("Player not found: " + playerId)))
                 .flatMap(player -> {
                     Game game = Game.builder()
-                            .id(UUID.randomUUID())
+                            .id(Uuids.v7())
                             .player(player)
                             .build();
                     game.startGame();
-                    return gameRepository.save(game).map(this::mapToResponse);
+                    // Nobody else can reach the game before it is saved, so no monitor here
+                    ActionResult started = ActionResult.started(game);
+                    return gameRepository.save(game)
+                            .thenReturn(started)
+                            .doOnNext(this::publishEvents)
+                            .map(this::mapToResponse);
                 });
     }
 
-    private GameResponse mapToResponse(Game game) {
+    private GameResponse mapToResponse(ActionResult result) {
+        return mapToResponse(result.game(), result.playerCards(), result.crupierCards(), result.crupierDraws());
+    }
+
+    // The card lists come from under the game's monitor; the caller holds it or copied them there
+    private GameResponse mapToResponse(Game game, List<Card> playerCards, List<Card> crupierCards,
+                                       List<Card> crupierDraws) {
         Player player = game.getPlayer();
         Crupier crupier = game.getCrupier();
 
         PlayerResponse playerResponse = new PlayerResponse(
                 player.getId(),
                 player.getName(),
-                player.getHand().getCards().stream()
+                playerCards.stream()
                         .map(this::mapToCardResponse)
                         .collect(Collectors.toList()),
                 player.getScore(),
                 player.getStatus()
         );
 
-        List<CardResponse> crupierHand = crupier.getHand().getCards().stream()
+        List<CardResponse> crupierHand = crupierCards.stream()
                 .map(this::mapToCardResponse)
                 .collect(Collectors.toList());
 
@@ -69,7 +117,10 @@ public class GameService {
                 game.getGameResult(),
                 playerResponse,
                 crupierHand,
-                crupier.getScore()
+                crupier.getScore(),
+                crupierDraws.stream()
+                        .map(this::mapToCardResponse)
+                        .collect(Collectors.toList())
         );
     }
 
@@ -84,105 +135,246 @@ public class GameService {
         return s.substring(0, 1).toUpperCase() + s.substring(1);
     }
 
+    /**
+     * Events of a live game, from the last ones buffered on (see {@link GameEventHub}).
+     * A finished game only gets its {@link GameEvent.GameFinished}.
+     */
+    public Flux<GameEvent> gameEvents(UUID gameId) {
+        return gameRepository.findById(gameId)
+                .switchIfEmpty(Mono.error(
+                        new ResourceNotFoundException("Game not found with id: " + gameId)))
+                .flatMapMany(game -> game.getGameStatus() == GameStatus.FINISHED
+                        ? Flux.just(finishedEvent(game))
+                        : eventHub.events(gameId));
+    }
+
     public Mono<GameResponse> getGameById(UUID gameId) {
         return gameRepository.findById(gameId)
-                .map(this::mapToResponse)
+                .map(game -> {
+                    synchronized (game) {
+                        return mapToResponse(game, game.getPlayer().getHand().cardsView(),
+                                game.getCrupier().getHand().cardsView(), List.of());
+                    }
+                })
                 .switchIfEmpty(Mono.error(
                         new ResourceNotFoundException("Game not found with id: " + gameId)));
     }
 
-    public Mono<Void> deleteById(UUID id) {
-        return gameRepository.findById(id)
-                .flatMap(game -> {
-                    UUID playerId = game.getPlayer().getId();
-
-                    return gameRepository.deleteById(id)
-                            .then(recalculatePlayerStats(playerId));
+    /**
+     * Exact odds of the crupier's final total from its upcard, over the cards the player
+     * cannot see: what is left of the shoe and the crupier's other cards.
+     */
+    public Mono<DealerOddsResponse> getDealerOdds(UUID gameId) {
+        return findGame(gameId)
+                .map(game -> {
+                    int[] unseen = new int[11];
+                    Card upcard;
+                    synchronized (game) {
+                        upcard = upcardAndUnseen(game, unseen);
+                    }
+                    DealerOdds odds = dealerOdds.fromUpcard(upcard.getNumericValue(), unseen);
+                    return new DealerOddsResponse(gameId, mapToCardResponse(upcard),
+                            Arrays.stream(unseen).sum(), odds);
                 });
     }
 
-    private Mono<Void> recalculatePlayerStats(UUID playerId) {
-        return gameRepository.findDocumentsByPlayerId(playerId)
-                .filter(game -> game.getGameResult() != null &&
-                        game.getGameResult() != GameResult.NO_RESULTS_YET)
-                .collectList()
-                .flatMap(games -> {
-                    long wins = games.stream()
-                            .filter(g -> g.getGameResult() == GameResult.PLAYER_WINS ||
-                                    g.getGameResult() == GameResult.BLACKJACK)
-                            .count();
-                    long losses = games.stream()
-                            .filter(g -> g.getGameResult() == GameResult.CRUPIER_WINS)
-                            .count();
-                    long pushes = games.stream()
-                            .filter(g -> g.getGameResult() == GameResult.PUSH)
-                            .count();
-
-                    return playerService.updateStatsOnly(playerId, (int) wins, (int) losses, (int) pushes);
+    /**
+     * Expected values of standing and hitting for the player's hand on their turn,
+     * over the same unseen cards as {@link #getDealerOdds}, next to the basic strategy
+     * table's action for the hand's total.
+     */
+    public Mono<HintResponse> getHint(UUID gameId) {
+        return findGame(gameId)
+                .flatMap(game -> {
+                    int[] unseen = new int[11];
+                    Card upcard;
+                    Hand hand;
+                    synchronized (game) {
+                        if (game.getGameStatus() != GameStatus.PLAYER_TURN) {
+                            return Mono.error(new NotPlayerTurnException("Hints are only given on the player's turn"));
+                        }
+                        upcard = upcardAndUnseen(game, unseen);
+                        hand = new Hand(game.getPlayer().getHand().cardsView());
+                    }
+                    HintResponse.Action basic = basicStrategy.shouldHit(hand, upcard.getNumericValue())
+                            ? HintResponse.Action.HIT : HintResponse.Action.STAND;
+                    return hintService.evaluate(hand.getHardTotal(), hand.isSoft(), upcard.getNumericValue(), unseen)
+                            .map(ev -> new HintResponse(gameId, hand.getScore(), mapToCardResponse(upcard),
+                                    ev.stand(), ev.hit(),
+                                    ev.shouldHit() ? HintResponse.Action.HIT : HintResponse.Action.STAND, basic));
                 });
     }
 
-    public Mono<GameResponse> playerHit(UUID gameId) {
-        log.debug("playerHit called for gameId: {}", gameId);
+    private Mono<Game> findGame(UUID gameId) {
         return gameRepository.findById(gameId)
                 .switchIfEmpty(Mono.error(
-                        new ResourceNotFoundException("Game not found with id: " + gameId)))
-                .flatMap(game -> {
-                    game.playerHit();
-                    return gameRepository.save(game)
-                            .flatMap(savedGame -> {
-                                log.debug("After playerHit, gameResult: {}", savedGame.getGameResult());
-                                if (savedGame.getGameResult() != null &&
-                                        savedGame.getGameResult() != GameResult.NO_RESULTS_YET) {
-                                    log.info("Player busted or blackjack, updating player stats for playerId: {}",
-                                            savedGame.getPlayer().getId());
-                                    return playerService.updatePlayerStats(
-                                            savedGame.getPlayer().getId(),
-                                            savedGame.getGameResult()
-                                    ).thenReturn(savedGame);
-                                }
-                                return Mono.just(savedGame);
-                            });
-                })
+                        new ResourceNotFoundException("Game not found with id: " + gameId)));
+    }
+
+    // Counts the rest of the shoe and the crupier's cards after the first into unseen
+    private Card upcardAndUnseen(Game game, int[] unseen) {
+        Hand crupierHand = game.getCrupier().getHand();
+        if (crupierHand.getCardCount() == 0) {
+            throw new InvalidRequestException("The crupier has no cards yet");
+        }
+        for (int i = 1; i < crupierHand.getCardCount(); i++) {
+            unseen[crupierHand.getCard(i).getNumericValue()]++;
+        }
+        game.getDeck().countValues(unseen);
+        return crupierHand.getCard(0);
+    }
+
+    /**
+     * Deletes the game and takes its result back from the player's counters: one
+     * {@code findAndRemove} in Mongo and one decrement in MySQL, however many games
+     * the player has. Full recounts are left to {@link PlayerStatsRepairJob}.
+     */
+    public Mono<Void> deleteById(UUID id) {
+        return gameRepository.findAndDeleteById(id)
+                .doOnSuccess(deleted -> eventHub.close(id))
+                .filter(deleted -> deleted.getGameResult() != null
+                        && deleted.getGameResult() != GameResult.NO_RESULTS_YET)
+                .flatMap(deleted -> playerService.revertPlayerStats(deleted.getPlayerId(), deleted.getGameResult()))
+                .then();
+    }
+
+    public Mono<GameResponse> playerHit(UUID gameId) {
+        log.debug("playerHit called for gameId: {}", gameId);
+        return applyAction(gameId, Game::playerHit)
+                .flatMap(this::updateStatsIfFinished)
+                .doOnNext(this::publishEvents)
                 .map(this::mapToResponse);
     }
 
 
     public Mono<GameResponse> playerStand(UUID gameId) {
-        return gameRepository.findById(gameId)
-                .switchIfEmpty(Mono.error(
-                        new ResourceNotFoundException("Game not found with id: " + gameId)))
-                .flatMap(game -> {
-                    game.playerStand();
-                    return gameRepository.save(game);
-                })
+        return applyAction(gameId, Game::playerStand)
+                .doOnNext(this::publishEvents)
+                .map(this::mapToResponse);
+    }
+
+    /**
+     * Stands and plays the crupier's whole turn in the same request, so the game is
+     * saved once and finished when this returns. The response lists the crupier's
+     * draws in order for clients that still animate them.
+     */
+    public Mono<GameResponse> playerStandAndResolve(UUID gameId) {
+        return applyAction(gameId, Game::playerStandAndResolve)
+                .flatMap(this::updateStatsIfFinished)
+                .doOnNext(this::publishEvents)
                 .map(this::mapToResponse);
     }
 
     public Mono<GameResponse> crupierHitOneCard(UUID gameId) {
         log.debug("GameService.crupierHitOneCard called for gameId {}", gameId);
-        return gameRepository.findById(gameId)
+        return applyAction(gameId, Game::crupierHitOneCard)
+                .flatMap(this::updateStatsIfFinished)
+                .doOnNext(this::publishEvents)
+                .map(this::mapToResponse);
+    }
+
+    /**
+     * Runs a domain action on the current game and saves it. When another request or
+     * node changed the stored game first, the save fails with
+     * {@link GameConflictException}; the store has then dropped its copy, so the whole
+     * action is retried against the fresh game a few times before the conflict is
+     * returned to the client.
+     */
+    private Mono<ActionResult> applyAction(UUID gameId, Consumer<Game> action) {
+        return Mono.defer(() -> gameRepository.findById(gameId))
                 .switchIfEmpty(Mono.error(
                         new ResourceNotFoundException("Game not found with id: " + gameId)))
                 .flatMap(game -> {
-                    game.crupierHitOneCard();
-                    return gameRepository.save(game)
-                            .flatMap(savedGame -> {
-                                // If the game is finished, update player stats
-                                log.debug("Checking if game finished: gameResult {}", savedGame.getGameResult());
-                                if (savedGame.getGameResult() != null &&
-                                        savedGame.getGameResult() != GameResult.NO_RESULTS_YET) {
-                                    log.info("Game finished, updating player stats...");
-                                    return playerService.updatePlayerStats(
-                                            savedGame.getPlayer().getId(),
-                                            savedGame.getGameResult()
-                                    ).thenReturn(savedGame);
-                                }
-                                log.debug("Game not finished yet, result: {}", savedGame.getGameResult());
-                                return Mono.just(savedGame);
-                            });
+                    ActionResult result;
+                    synchronized (game) {
+                        GameStatus statusBefore = game.getGameStatus();
+                        int playerCardsBefore = game.getPlayer().getHand().getCardCount();
+                        int crupierCardsBefore = game.getCrupier().getHand().getCardCount();
+                        action.accept(game);
+                        result = ActionResult.of(game, statusBefore, playerCardsBefore, crupierCardsBefore);
+                    }
+                    return gameRepository.save(game).thenReturn(result);
                 })
-                .map(this::mapToResponse);
+                .retryWhen(CONFLICT_RETRY);
+    }
+
+    // Stats are only counted by the action that actually finished the game
+    private Mono<ActionResult> updateStatsIfFinished(ActionResult result) {
+        Game game = result.game();
+        if (!result.finishedNow()) {
+            log.debug("Game not finished yet, result: {}", game.getGameResult());
+            return Mono.just(result);
+        }
+        log.info("Game finished with {}, updating player stats for playerId: {}",
+                game.getGameResult(), game.getPlayer().getId());
+        return playerService.updatePlayerStats(game.getPlayer().getId(), game.getGameResult())
+                .thenReturn(result);
+    }
+
+    // Sent after the stats update, so a client refreshing them on GameFinished sees the new counts
+    private void publishEvents(ActionResult result) {
+        Game game = result.game();
+        UUID gameId = game.getId();
+        List<GameEvent> events = new ArrayList<>();
+        GameStatus announced = result.statusBefore();
+
+        result.playerDraws().forEach(card -> events.add(
+                new GameEvent.CardDealt(gameId, GameEvent.Recipient.PLAYER, mapToCardResponse(card))));
+        // A stand resolved on the server skips CRUPIER_TURN; still announce it before the crupier's cards
+        if (!result.crupierDraws().isEmpty() && announced == GameStatus.PLAYER_TURN) {
+            announced = GameStatus.CRUPIER_TURN;
+            events.add(new GameEvent.StatusChanged(gameId, announced));
+        }
+        result.crupierDraws().forEach(card -> events.add(
+                new GameEvent.CardDealt(gameId, GameEvent.Recipient.CRUPIER, mapToCardResponse(card))));
+        if (result.status() != announced) {
+            events.add(new GameEvent.StatusChanged(gameId, result.status()));
+        }
+        if (result.finishedNow()) {
+            events.add(finishedEvent(game));
+        }
+        eventHub.publish(gameId, events);
+    }
+
+    private GameEvent.GameFinished finishedEvent(Game game) {
+        return new GameEvent.GameFinished(game.getId(), game.getGameResult(),
+                game.getPlayerScore(), game.getCrupier().getScore());
+    }
+
+    // Statuses and cards are read under the game's monitor, around the action; the draws
+    // are the tails of the hands dealt by it
+    private record ActionResult(Game game,
+                                GameStatus statusBefore,
+                                GameStatus status,
+                                List<Card> playerCards,
+                                List<Card> crupierCards,
+                                List<Card> playerDraws,
+                                List<Card> crupierDraws) {
+
+        static ActionResult of(Game game, GameStatus statusBefore, int playerCardsBefore, int crupierCardsBefore) {
+            List<Card> playerCards = cardsOf(game.getPlayer().getHand());
+            List<Card> crupierCards = cardsOf(game.getCrupier().getHand());
+            return new ActionResult(game, statusBefore, game.getGameStatus(), playerCards, crupierCards,
+                    playerCards.subList(playerCardsBefore, playerCards.size()),
+                    crupierCards.subList(crupierCardsBefore, crupierCards.size()));
+        }
+
+        // The initial deal, all of it drawn by startGame()
+        static ActionResult started(Game game) {
+            return of(game, GameStatus.CREATED, 0, 0);
+        }
+
+        private static List<Card> cardsOf(Hand hand) {
+            List<Card> cards = new ArrayList<>(hand.getCardCount());
+            for (int i = 0; i < hand.getCardCount(); i++) {
+                cards.add(hand.getCard(i));
+            }
+            return Collections.unmodifiableList(cards);
+        }
+
+        boolean finishedNow() {
+            return statusBefore != GameStatus.FINISHED && status == GameStatus.FINISHED;
+        }
     }
 
 }
@@ -0,0 +1,83 @@
+package com.itacademy.blackjack.game.application;
+
+import com.itacademy.blackjack.game.domain.model.PlayerEv;
+import com.itacademy.blackjack.game.domain.model.PlayerEvCalculator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Hit and stand values for {@link GameService}.
+ * <p>
+ * Answers are kept in an LRU cache of {@code blackjack.hints.cache-size} entries, keyed
+ * by {@link PlayerEvCalculator#situation}: the player's hard total and soft flag, the
+ * upcard and the unseen counts. Single-deck games start from the same 52 cards, so the
+ * same situations come back at every table and are answered from the cache.
+ * <p>
+ * A miss is computed on the bounded elastic scheduler, since a low hand against a
+ * fresh deck explores thousands of states. Each of its threads keeps its own
+ * calculator, whose memos stay warm for the next miss.
+ */
+@Service
+public class HintService {
+
+    private static final String METRIC_PREFIX = "blackjack.hints.cache";
+
+    private final ThreadLocal<PlayerEvCalculator> calculators;
+    private final Map<Long, PlayerEv> cache;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public HintService(MeterRegistry meterRegistry,
+                       @Value("${blackjack.hints.cache-size:10000}") int cacheSize,
+                       @Value("${blackjack.hints.memo-capacity:65536}") int memoCapacity) {
+        this.calculators = ThreadLocal.withInitial(() -> new PlayerEvCalculator(memoCapacity));
+        this.cache = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, PlayerEv> eldest) {
+                return size() > cacheSize;
+            }
+        };
+
+        this.hits = Counter.builder(METRIC_PREFIX + ".requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder(METRIC_PREFIX + ".requests").tag("result", "miss").register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".size", this, HintService::size).register(meterRegistry);
+    }
+
+    /**
+     * @see PlayerEvCalculator#evaluate
+     */
+    public Mono<PlayerEv> evaluate(int hardTotal, boolean hasAce, int upcardValue, int[] unseen) {
+        long situation = PlayerEvCalculator.situation(hardTotal, hasAce, upcardValue, unseen);
+        PlayerEv cached;
+        synchronized (cache) {
+            cached = cache.get(situation);
+        }
+        if (cached != null) {
+            hits.increment();
+            return Mono.just(cached);
+        }
+        misses.increment();
+        return Mono.fromCallable(() -> calculators.get().evaluate(hardTotal, hasAce, upcardValue, unseen))
+                .subscribeOn(Schedulers.boundedElastic())
+                .doOnNext(ev -> {
+                    synchronized (cache) {
+                        cache.put(situation, ev);
+                    }
+                });
+    }
+
+    int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.itacademy.blackjack.game.application;
+
+import com.itacademy.blackjack.game.infrastructure.persistence.mongo.repository.GameRepository;
+import com.itacademy.blackjack.player.application.PlayerService;
+import com.itacademy.blackjack.player.domain.model.Player;
+import com.itacademy.blackjack.player.domain.repository.PlayerRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Recounts players' stats from their games in Mongo and overwrites the MySQL counters.
+ * <p>
+ * Normal play only ever increments or decrements single counters; this is the repair
+ * path for counters that drifted, e.g. after a crash between the Mongo and the MySQL
+ * write. Runs for every player each {@code blackjack.stats-repair.interval}, which is
+ * off by default ({@code 0}).
+ */
+@Slf4j
+@Component
+public class PlayerStatsRepairJob {
+
+    private final GameRepository gameRepository;
+    private final PlayerRepository playerRepository;
+    private final PlayerService playerService;
+    private final Duration interval;
+
+    private Disposable schedule;
+
+    public PlayerStatsRepairJob(GameRepository gameRepository,
+                                PlayerRepository playerRepository,
+                                PlayerService playerService,
+                                @Value("${blackjack.stats-repair.interval:0s}") Duration interval) {
+        this.gameRepository = gameRepository;
+        this.playerRepository = playerRepository;
+        this.playerService = playerService;
+        this.interval = interval;
+    }
+
+    @PostConstruct
+    void start() {
+        if (interval.isZero() || interval.isNegative()) {
+            return;
+        }
+        schedule = Flux.interval(interval, interval)
+                .onBackpressureDrop()
+                .concatMap(tick -> repairAll()
+                        .onErrorResume(e -> {
+                            log.error("Player stats repair failed", e);
+                            return Mono.empty();
+                        }), 1)
+                .subscribe(count -> log.info("Repaired stats of {} players", count));
+    }
+
+    @PreDestroy
+    void stop() {
+        if (schedule != null) {
+            schedule.dispose();
+        }
+    }
+
+    // Recounts every player, one at a time; emits how many were processed
+    public Mono<Long> repairAll() {
+        return playerRepository.findAllByOrderByWinsDesc()
+                .map(Player::getId)
+                .concatMap(playerId -> repair(playerId).thenReturn(playerId))
+                .count();
+    }
+
+    // One $group aggregation in Mongo, then the three counters are set in MySQL
+    public Mono<Void> repair(UUID playerId) {
+        return gameRepository.countResultsByPlayerId(playerId)
+                .flatMap(counts -> playerService.updateStatsOnly(playerId,
+                        (int) counts.wins(), (int) counts.losses(), (int) counts.pushes()));
+    }
+}
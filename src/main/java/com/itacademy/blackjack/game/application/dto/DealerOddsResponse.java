@@ -0,0 +1,18 @@
+package com.itacademy.blackjack.game.application.dto;
+
+import com.itacademy.blackjack.game.domain.model.DealerOdds;
+
+import java.util.UUID;
+
+/**
+ * Probabilities of the crupier's final total from its upcard. {@code unseenCards} is
+ * how many cards they were computed over: the rest of the shoe plus the crupier's
+ * cards after the upcard, which a player at a real table would not see.
+ */
+public record DealerOddsResponse(
+        UUID gameId,
+        CardResponse upcard,
+        int unseenCards,
+        DealerOdds odds
+) {
+}
@@ -0,0 +1,26 @@
+package com.itacademy.blackjack.game.application.dto;
+
+import com.itacademy.blackjack.game.domain.model.GameResult;
+import com.itacademy.blackjack.game.domain.model.GameStatus;
+
+import java.util.UUID;
+
+/**
+ * Changes of a game pushed on {@code GET /games/{id}/events}. The SSE event name is
+ * the record name ({@code CardDealt}, {@code StatusChanged}, {@code GameFinished}).
+ */
+public sealed interface GameEvent {
+
+    UUID gameId();
+
+    enum Recipient { PLAYER, CRUPIER }
+
+    record CardDealt(UUID gameId, Recipient recipient, CardResponse card) implements GameEvent {
+    }
+
+    record StatusChanged(UUID gameId, GameStatus status) implements GameEvent {
+    }
+
+    record GameFinished(UUID gameId, GameResult result, int playerScore, int crupierScore) implements GameEvent {
+    }
+}
@@ -1,9 +1,11 @@
 package com.itacademy.blackjack.game.application.dto;
 
+// cursor: pass as before=... to get the games played before this one, null for games without finish time
 public record GameHistoryResponse(
         String gameId,
         String playedAt,
         String result,
         int playerScore,
-        int dealerScore
+        int dealerScore,
+        String cursor
 ) {}
@@ -6,12 +6,18 @@ import com.itacademy.blackjack.game.domain.model.GameStatus;
 import java.util.List;
 import java.util.UUID;
 
+/**
+ * {@code crupierDraws} holds the cards the crupier drew during this request, in draw
+ * order (they are also the last cards of {@code crupierHand}), so clients can animate
+ * a turn resolved on the server. Empty when the crupier drew nothing.
+ */
 public record GameResponse(
         UUID id,
         GameStatus status,
         GameResult result,
         PlayerResponse player,
         List<CardResponse> crupierHand,
-        int crupierScore
+        int crupierScore,
+        List<CardResponse> crupierDraws
 ) {
 }
@@ -0,0 +1,26 @@
+package com.itacademy.blackjack.game.application.dto;
+
+import java.util.UUID;
+
+/**
+ * Expected value of each action for the player's current hand, in bets (+1 win,
+ * -1 loss), over the same unseen cards as {@link DealerOddsResponse}.
+ * {@code hitEv} assumes the player keeps choosing the better action afterwards.
+ * {@code recommendation} follows those values for these exact cards; {@code basicStrategy}
+ * is the precomputed table's action for the hand's total, which can differ on close calls.
+ */
+public record HintResponse(
+        UUID gameId,
+        int playerScore,
+        CardResponse upcard,
+        double standEv,
+        double hitEv,
+        Action recommendation,
+        Action basicStrategy
+) {
+
+    public enum Action {
+        HIT,
+        STAND
+    }
+}
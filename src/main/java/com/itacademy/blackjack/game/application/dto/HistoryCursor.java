@@ -0,0 +1,30 @@
+package com.itacademy.blackjack.game.application.dto;
+
+import com.itacademy.blackjack.exception.InvalidRequestException;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Keyset position in a player's game history: when the last game of a page finished
+ * and its id, written as {@code <epochMillis>_<gameId>}. The next page starts right after it.
+ */
+public record HistoryCursor(Instant finishedAt, UUID gameId) {
+
+    public static HistoryCursor parse(String value) {
+        int separator = value.indexOf('_');
+        try {
+            return new HistoryCursor(
+                    Instant.ofEpochMilli(Long.parseLong(value.substring(0, separator))),
+                    UUID.fromString(value.substring(separator + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new InvalidRequestException("Invalid history cursor: " + value);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return finishedAt.toEpochMilli() + "_" + gameId;
+    }
+}
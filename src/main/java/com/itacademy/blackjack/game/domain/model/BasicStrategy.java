@@ -0,0 +1,151 @@
+package com.itacademy.blackjack.game.domain.model;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+
+/**
+ * Hit or stand for every player total against every upcard, as one bit per cell:
+ * hard totals 4 to 21 and soft totals 12 to 21, upcards 1 (ace) to 10. Lookups are a
+ * shift and a mask.
+ * <p>
+ * The table for this game's rules ships as the {@value #RESOURCE} classpath resource:
+ * a magic number and {@value #WORDS} longs. It is generated from exact expected values
+ * by {@code BasicStrategyGenerator}; see the simulation CLI to regenerate it.
+ */
+public final class BasicStrategy {
+
+    public static final String RESOURCE = "basic-strategy.bin";
+
+    /** "BST1" */
+    private static final int MAGIC = 0x42535431;
+    private static final int TOTALS = 22;
+    private static final int UPCARDS = 10;
+    private static final int CELLS = 2 * TOTALS * UPCARDS;
+    private static final int WORDS = (CELLS + 63) / 64;
+
+    /**
+     * One decision, for {@link #tabulate}.
+     */
+    @FunctionalInterface
+    public interface Decision {
+        boolean shouldHit(int total, boolean soft, int upcardValue);
+    }
+
+    private final long[] hits;
+
+    private BasicStrategy(long[] hits) {
+        this.hits = hits;
+    }
+
+    /**
+     * Asks {@code decision} about every cell once.
+     */
+    public static BasicStrategy tabulate(Decision decision) {
+        long[] hits = new long[WORDS];
+        for (int soft = 0; soft <= 1; soft++) {
+            for (int total = soft == 1 ? 12 : 4; total <= 21; total++) {
+                for (int upcard = 1; upcard <= 10; upcard++) {
+                    if (decision.shouldHit(total, soft == 1, upcard)) {
+                        int cell = cell(total, soft == 1, upcard);
+                        hits[cell >>> 6] |= 1L << cell;
+                    }
+                }
+            }
+        }
+        return new BasicStrategy(hits);
+    }
+
+    /**
+     * @param total       the hand's score, counting a soft ace as 11
+     * @param soft        whether an ace counts as 11
+     * @param upcardValue the crupier's upcard, 1 for an ace
+     */
+    public boolean shouldHit(int total, boolean soft, int upcardValue) {
+        if (total < (soft ? 12 : 4) || total > 21 || upcardValue < 1 || upcardValue > 10) {
+            throw new IllegalArgumentException("No " + (soft ? "soft " : "hard ") + total
+                    + " against " + upcardValue + " in the table");
+        }
+        int cell = cell(total, soft, upcardValue);
+        return (hits[cell >>> 6] & 1L << cell) != 0;
+    }
+
+    public boolean shouldHit(Hand hand, int upcardValue) {
+        return shouldHit(hand.getScore(), hand.isSoft(), upcardValue);
+    }
+
+    private static int cell(int total, boolean soft, int upcardValue) {
+        return ((soft ? TOTALS : 0) + total) * UPCARDS + upcardValue - 1;
+    }
+
+    public static BasicStrategy read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a basic strategy table");
+        }
+        long[] hits = new long[WORDS];
+        for (int i = 0; i < WORDS; i++) {
+            hits[i] = data.readLong();
+        }
+        return new BasicStrategy(hits);
+    }
+
+    public void write(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        for (long word : hits) {
+            data.writeLong(word);
+        }
+        data.flush();
+    }
+
+    /**
+     * Reads the table shipped with the application.
+     *
+     * @throws IllegalStateException when the resource is missing
+     */
+    public static BasicStrategy load() {
+        try (InputStream in = BasicStrategy.class.getClassLoader().getResourceAsStream(RESOURCE)) {
+            if (in == null) {
+                throw new IllegalStateException(RESOURCE + " is not on the classpath");
+            }
+            return read(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read " + RESOURCE, e);
+        }
+    }
+
+    /**
+     * The table as text, one row per total and one column per upcard from 2 to ace,
+     * H to hit and S to stand.
+     */
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder("          2  3  4  5  6  7  8  9  T  A\n");
+        for (int soft = 0; soft <= 1; soft++) {
+            for (int total = soft == 1 ? 12 : 4; total <= 21; total++) {
+                text.append(String.format("%s %2d ", soft == 1 ? "soft" : "hard", total));
+                for (int column = 0; column < UPCARDS; column++) {
+                    int upcard = column == UPCARDS - 1 ? 1 : column + 2;
+                    text.append("  ").append(shouldHit(total, soft == 1, upcard) ? 'H' : 'S');
+                }
+                text.append('\n');
+            }
+        }
+        return text.toString();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof BasicStrategy other && Arrays.equals(hits, other.hits);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(hits);
+    }
+}
@@ -0,0 +1,24 @@
+package com.itacademy.blackjack.game.domain.model;
+
+/**
+ * Probabilities of the crupier's final total, as computed by {@link DealerOddsCalculator}.
+ * They add up to 1.
+ */
+public record DealerOdds(
+        double seventeen,
+        double eighteen,
+        double nineteen,
+        double twenty,
+        double twentyOne,
+        double bust
+) {
+
+    /**
+     * @param outcomes probabilities indexed as in {@link DealerOddsCalculator}: totals 17 to 21
+     *                 at 0 to 4, bust at {@link DealerOddsCalculator#BUST}
+     */
+    public static DealerOdds of(double[] outcomes) {
+        return new DealerOdds(outcomes[0], outcomes[1], outcomes[2], outcomes[3], outcomes[4],
+                outcomes[DealerOddsCalculator.BUST]);
+    }
+}
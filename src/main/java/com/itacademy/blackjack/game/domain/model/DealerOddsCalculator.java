@@ -0,0 +1,183 @@
+package com.itacademy.blackjack.game.domain.model;
+
+import com.itacademy.blackjack.deck.model.CardRank;
+import com.itacademy.blackjack.deck.model.Suit;
+
+import java.util.Arrays;
+
+/**
+ * Exact distribution of the crupier's final total from a partial hand and the cards
+ * left in the shoe, drawing without replacement and hitting as {@link Crupier#mustHit()}
+ * does: up to 16, standing on every 17.
+ * <p>
+ * The shoe is given as counts per numeric value, {@code counts[1]} for aces up to
+ * {@code counts[10]} for tens and faces. Every state of the recursion (the crupier's
+ * hard total, whether an ace still counts as 11, and the counts left) packs into one
+ * long: five bits per count of aces to nines, seven for tens, then the total and the
+ * soft flag. That long keys an open-addressing memo with the six probabilities of each
+ * state stored inline in a {@code double[]}, so different hands and tables that reach
+ * the same state share the work. Once the memo, counts and per-depth sums are
+ * allocated nothing else is; when the memo is three quarters full it is cleared.
+ * <p>
+ * Not thread-safe: keep one per thread.
+ */
+public final class DealerOddsCalculator {
+
+    /** Index of bust in the outcome arrays; totals 17 to 21 are at 0 to 4. */
+    public static final int BUST = 5;
+    public static final int OUTCOMES = 6;
+
+    /** Largest count of one value from ace to nine the key can hold: seven decks. */
+    public static final int MAX_LOW_COUNT = 31;
+    /** Largest count of tens and faces the key can hold: seven decks. */
+    public static final int MAX_TEN_COUNT = 127;
+
+    private static final int[] SHIFT = new int[11];
+    private static final int HARD_SHIFT = 52;
+    private static final long SOFT_BIT = 1L << 57;
+
+    // Every draw adds at least one to a hard total that stays below 17
+    private static final int MAX_DEPTH = 17;
+
+    static {
+        for (int value = 1; value <= 9; value++) {
+            SHIFT[value] = (value - 1) * 5;
+        }
+        SHIFT[10] = 45;
+    }
+
+    private final MemoTable memo;
+    private final int[] counts = new int[11];
+    private final double[][] sums = new double[MAX_DEPTH][OUTCOMES];
+
+    /**
+     * @param capacity memo slots, rounded up to a power of two; each takes 56 bytes
+     */
+    public DealerOddsCalculator(int capacity) {
+        this.memo = new MemoTable(capacity, OUTCOMES);
+    }
+
+    /**
+     * Counts per value of full 52-card decks, in the layout {@link #finalTotals} takes.
+     */
+    public static int[] shoeCounts(int decks) {
+        int[] counts = new int[11];
+        for (CardRank rank : CardRank.values()) {
+            counts[rank.getNumericValue()] += decks * Suit.values().length;
+        }
+        return counts;
+    }
+
+    /**
+     * Convenience over {@link #finalTotals(int, boolean, int[], double[])} for a crupier
+     * holding only its upcard.
+     */
+    public DealerOdds fromUpcard(int upcardValue, int[] shoe) {
+        double[] outcomes = new double[OUTCOMES];
+        finalTotals(upcardValue, upcardValue == 1, shoe, outcomes);
+        return DealerOdds.of(outcomes);
+    }
+
+    /**
+     * Writes the probabilities of each final total into {@code outcomes}, indexed
+     * totals 17 to 21 at 0 to 4 and bust at {@link #BUST}.
+     *
+     * @param hardTotal the crupier's total counting aces as 1, at least 1
+     * @param hasAce    whether the crupier holds an ace
+     * @param shoe      counts per value of the cards that can still be drawn; not modified
+     */
+    public void finalTotals(int hardTotal, boolean hasAce, int[] shoe, double[] outcomes) {
+        if (hardTotal < 1) {
+            throw new IllegalArgumentException("The crupier needs at least one card");
+        }
+        Arrays.fill(outcomes, 0, OUTCOMES, 0.0);
+        boolean soft = hasAce && hardTotal <= 11;
+        int score = soft ? hardTotal + 10 : hardTotal;
+        if (score >= 17) {
+            outcomes[outcome(score)] = 1.0;
+            return;
+        }
+
+        long composition = composition(shoe);
+        int remaining = 0;
+        for (int value = 1; value <= 10; value++) {
+            counts[value] = shoe[value];
+            remaining += shoe[value];
+        }
+        int slot = solve(hardTotal, soft, composition, remaining, 0);
+        System.arraycopy(memo.values, slot * OUTCOMES, outcomes, 0, OUTCOMES);
+    }
+
+    public int memoSize() {
+        return memo.size();
+    }
+
+    public void clearMemo() {
+        memo.clear();
+    }
+
+    /**
+     * Packs shoe counts into the low 52 bits of a memo key.
+     *
+     * @throws IllegalArgumentException when a count does not fit
+     */
+    static long composition(int[] shoe) {
+        long composition = 0;
+        for (int value = 1; value <= 10; value++) {
+            int count = shoe[value];
+            if (count < 0 || count > (value == 10 ? MAX_TEN_COUNT : MAX_LOW_COUNT)) {
+                throw new IllegalArgumentException("Unsupported count of " + count + " for value " + value);
+            }
+            composition |= (long) count << SHIFT[value];
+        }
+        return composition;
+    }
+
+    // What drawing one card of the value takes off a packed composition
+    static long unit(int value) {
+        return 1L << SHIFT[value];
+    }
+
+    // Returns the memo slot holding the state's outcomes; valid until the next insert
+    private int solve(int hard, boolean soft, long composition, int remaining, int depth) {
+        long key = composition | (long) hard << HARD_SHIFT | (soft ? SOFT_BIT : 0L);
+        int slot = memo.find(key);
+        if (slot >= 0) {
+            return slot;
+        }
+        if (remaining == 0) {
+            throw new IllegalStateException("The shoe ran out before the crupier reached 17");
+        }
+
+        double[] sum = sums[depth];
+        Arrays.fill(sum, 0.0);
+        for (int value = 1; value <= 10; value++) {
+            int count = counts[value];
+            if (count == 0) {
+                continue;
+            }
+            double probability = (double) count / remaining;
+            int nextHard = hard + value;
+            boolean nextSoft = (soft || value == 1) && nextHard <= 11;
+            int score = nextSoft ? nextHard + 10 : nextHard;
+            if (score >= 17) {
+                sum[outcome(score)] += probability;
+                continue;
+            }
+            counts[value]--;
+            int child = solve(nextHard, nextSoft, composition - unit(value), remaining - 1, depth + 1);
+            counts[value]++;
+            int offset = child * OUTCOMES;
+            for (int i = 0; i < OUTCOMES; i++) {
+                sum[i] += probability * memo.values[offset + i];
+            }
+        }
+        slot = memo.insert(key);
+        System.arraycopy(sum, 0, memo.values, slot * OUTCOMES, OUTCOMES);
+        return slot;
+    }
+
+    static int outcome(int score) {
+        return score > 21 ? BUST : score - 17;
+    }
+}
@@ -2,12 +2,12 @@ package com.itacademy.blackjack.game.domain.model;
 
 import com.itacademy.blackjack.deck.model.Card;
 import com.itacademy.blackjack.deck.model.Deck;
-import com.itacademy.blackjack.deck.model.ScoringService;
 import com.itacademy.blackjack.game.domain.model.exception.NotPlayerTurnException;
 import com.itacademy.blackjack.player.domain.model.Player;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -40,7 +40,7 @@ public class Game {
     }
 
     public int getPlayerScore() {
-        return ScoringService.calculateHandScore(player.getHand().getCards());
+        return player.getHand().getScore();
     }
 
     // ========== CUSTOM BUILDER ==========
@@ -48,7 +48,7 @@ public class Game {
         private UUID id;
         private GameStatus gameStatus = GameStatus.CREATED;
         private GameResult gameResult = GameResult.NO_RESULTS_YET;
-        private Deck deck = new Deck();
+        private Deck deck;
         private Player player;
         private Crupier crupier;
 
@@ -97,6 +97,7 @@ public class Game {
             if (crupier == null) {
                 crupier = new Crupier();
             }
+            // Only shuffled when no deck was given
             if (deck == null) {
                 deck = new Deck();
             }
@@ -140,11 +141,11 @@ public class Game {
             gameResult = GameResult.BLACKJACK;
         }
         gameStatus = GameStatus.FINISHED;
-        log.info("Player has Blackjack! Result: {}", gameResult);
+        log.debug("Player has Blackjack! Result: {}", gameResult);
     }
 
     public void crupierTurn() {
-        log.info("Crupier turn starting. Score: {}", crupier.getScore());
+        log.debug("Crupier turn starting. Score: {}", crupier.getScore());
 
         while (crupier.mustHit()) {
             Card card = drawCardFromDeck();
@@ -152,7 +153,7 @@ public class Game {
             log.debug("Crupier drew: {}. New score: {}", card, crupier.getScore());
         }
 
-        log.info("Crupier stands with score: {}", crupier.getScore());
+        log.debug("Crupier stands with score: {}", crupier.getScore());
         determineWinner();
     }
 
@@ -166,7 +167,7 @@ public class Game {
         log.debug("Player drew: {}", card);
 
         if (player.getStatus() == PlayerStatus.BUSTED) {
-            log.info("Player busted with score: {}", player.getScore());
+            log.debug("Player busted with score: {}", player.getScore());
             gameResult = GameResult.CRUPIER_WINS;
             gameStatus = GameStatus.FINISHED;
         }
@@ -190,7 +191,7 @@ public class Game {
 
         updatePlayerStatistics();
 
-        log.info("Game ended. Player: {}, Crupier: {}, Result: {}",
+        log.debug("Game ended. Player: {}, Crupier: {}, Result: {}",
                 playerScore, crupierScore, gameResult);
 
         gameStatus = GameStatus.FINISHED;
@@ -206,10 +207,16 @@ public class Game {
         }
 
         player.stand();
-        log.info("Player stood with score: {}", player.getScore());
+        log.debug("Player stood with score: {}", player.getScore());
         gameStatus = GameStatus.CRUPIER_TURN;
     }
 
+    // Stand and play the whole crupier turn at once, instead of one crupierHitOneCard() per card
+    public void playerStandAndResolve() {
+        playerStand();
+        crupierTurn();
+    }
+
     public void crupierHitOneCard() {
         if (gameStatus != GameStatus.CRUPIER_TURN) {
             throw new NotPlayerTurnException("Not crupier turn!");
@@ -229,16 +236,17 @@ public class Game {
     // ========== RECONSTRUCT METHOD ==========
 
     public static Game reconstruct(
-            String id,
-            String playerId,
+            UUID id,
+            UUID playerId,
             String playerName,
             List<CardData> playerCards,
             List<CardData> crupierCards,
             GameStatus gameStatus,
-            GameResult gameResult
+            GameResult gameResult,
+            byte[] shoeState
     ) {
         Player player = Player.reconstruct(
-                UUID.fromString(playerId),
+                playerId,
                 playerName,
                 playerCards
         );
@@ -246,13 +254,23 @@ public class Game {
         Crupier crupier = Crupier.reconstruct(crupierCards);
 
         return Game.builder()
-                .id(UUID.fromString(id))
+                .id(id)
                 .gameStatus(gameStatus)
                 .gameResult(gameResult)
-                .deck(new Deck())
+                .deck(restoreDeck(shoeState, player, crupier))
                 .player(player)
                 .crupier(crupier)
                 .build();
     }
 
+    // Games saved before the shoe was persisted get a fresh deck minus the cards on the table
+    private static Deck restoreDeck(byte[] shoeState, Player player, Crupier crupier) {
+        if (shoeState != null) {
+            return Deck.fromShoeState(shoeState);
+        }
+        List<Card> dealtCards = new ArrayList<>(player.getHand().getCards());
+        dealtCards.addAll(crupier.getHand().getCards());
+        return Deck.without(dealtCards);
+    }
+
 }
@@ -1,50 +1,121 @@
 package com.itacademy.blackjack.game.domain.model;
 
 import com.itacademy.blackjack.deck.model.Card;
-
+import com.itacademy.blackjack.deck.model.CardRank;
 import com.itacademy.blackjack.deck.model.ScoringService;
 
-import java.util.ArrayList;
+import java.util.AbstractList;
 import java.util.List;
+import java.util.RandomAccess;
 
+/**
+ * Cards held by a player or the crupier.
+ * <p>
+ * Cards are packed as 6-bit codes ({@link Card#ordinal()}) into three longs, ten
+ * cards per long. Every card adds at least one to the hard total, so no hand from a
+ * shoe of any size gets past 22 cards (21 aces, then a bust). The hard
+ * total (aces counted as 1) and the number of aces are kept up to date in
+ * {@link #addCard(Card)}, so score, soft, bust and blackjack checks are plain
+ * field reads. {@link ScoringService} gives the same score from a card list.
+ */
 public final class Hand {
-    private final List<Card> cards;
+
+    public static final int MAX_CARDS = 30;
+
+    private static final int BITS_PER_CARD = 6;
+    private static final int CARDS_PER_WORD = 10;
+    private static final long CARD_MASK = (1L << BITS_PER_CARD) - 1;
+
+    private long low;
+    private long middle;
+    private long high;
+    private int count;
+    private int hardTotal;
+    private int aceCount;
+
+    private final List<Card> view = new CardsView();
 
     public Hand() {
-        this.cards = new ArrayList<>();
     }
 
     public Hand(List<Card> cards) {
-        this.cards = new ArrayList<>(cards); // Defensive copy
+        for (Card card : cards) {
+            addCard(card);
+        }
     }
 
-    // Immutable access
+    /**
+     * The cards held right now, as an immutable copy.
+     */
     public List<Card> getCards() {
-        return List.copyOf(cards);
+        return List.copyOf(view);
+    }
+
+    /**
+     * Read-only view over the packed cards, without copying. It is live: cards added
+     * later show up in it, so read it under the same lock as the writes.
+     */
+    public List<Card> cardsView() {
+        return view;
+    }
+
+    public Card getCard(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Card index " + index + " out of bounds for " + count + " cards");
+        }
+        long word = switch (index / CARDS_PER_WORD) {
+            case 0 -> low;
+            case 1 -> middle;
+            default -> high;
+        };
+        int shift = (index % CARDS_PER_WORD) * BITS_PER_CARD;
+        return Card.ofOrdinal((int) ((word >>> shift) & CARD_MASK));
     }
 
     public void addCard(Card card) {
-        this.cards.add(card);
+        if (count == MAX_CARDS) {
+            throw new IllegalStateException("A hand cannot hold more than " + MAX_CARDS + " cards");
+        }
+        long code = (long) card.ordinal() << ((count % CARDS_PER_WORD) * BITS_PER_CARD);
+        switch (count / CARDS_PER_WORD) {
+            case 0 -> low |= code;
+            case 1 -> middle |= code;
+            default -> high |= code;
+        }
+        count++;
+        hardTotal += card.getNumericValue();
+        if (card.getRank() == CardRank.ACE) {
+            aceCount++;
+        }
     }
 
     public int getScore() {
-        return ScoringService.calculateHandScore(cards);  // Static call
+        return isSoft() ? hardTotal + 10 : hardTotal;
+    }
+
+    public int getHardTotal() {
+        return hardTotal;
+    }
+
+    // An ace can count as 11 without busting
+    public boolean isSoft() {
+        return aceCount > 0 && hardTotal <= 11;
     }
 
     public int getCardCount() {
-        return cards.size();
+        return count;
     }
 
     public boolean isEmpty() {
-        return cards.isEmpty();
+        return count == 0;
     }
 
     public boolean isBlackjack() {
-        return getScore() == 21 && cards.size() == 2;  // ✓ No changes needed
+        return getScore() == 21 && count == 2;
     }
 
     public boolean isBusted() {
-        return getScore() > 21;  // ✓ No changes needed
+        return getScore() > 21;
     }
 
     @Override
@@ -52,11 +123,23 @@ public final class Hand {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Hand hand = (Hand) o;
-        return cards.equals(hand.cards);
+        return count == hand.count && low == hand.low && middle == hand.middle && high == hand.high;
     }
 
     @Override
     public int hashCode() {
-        return cards.hashCode();
+        return 31 * (31 * (31 * Long.hashCode(low) + Long.hashCode(middle)) + Long.hashCode(high)) + count;
+    }
+
+    private final class CardsView extends AbstractList<Card> implements RandomAccess {
+        @Override
+        public Card get(int index) {
+            return getCard(index);
+        }
+
+        @Override
+        public int size() {
+            return count;
+        }
     }
 }
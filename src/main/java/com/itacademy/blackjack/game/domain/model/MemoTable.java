@@ -0,0 +1,71 @@
+package com.itacademy.blackjack.game.domain.model;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing memo from non-zero long keys to {@code width} doubles stored inline
+ * in {@link #values}, for the odds calculators. Linear probing; once three quarters
+ * full, the next insert clears it instead of growing, so it never allocates after
+ * construction. Slot numbers are only valid until the next insert.
+ */
+final class MemoTable {
+
+    final double[] values;
+    private final long[] keys;
+    private final int mask;
+    private final int hashShift;
+    private final int limit;
+    private int size;
+
+    /**
+     * @param capacity slots, rounded up to a power of two
+     */
+    MemoTable(int capacity, int width) {
+        if (capacity < 16 || capacity > 1 << 24) {
+            throw new IllegalArgumentException("The memo needs between 16 and 2^24 slots");
+        }
+        int slots = Integer.highestOneBit(capacity - 1) << 1;
+        this.keys = new long[slots];
+        this.values = new double[slots * width];
+        this.mask = slots - 1;
+        this.hashShift = Long.numberOfLeadingZeros(slots) + 1;
+        this.limit = slots / 4 * 3;
+    }
+
+    /**
+     * The slot holding key, or the complement of the empty slot where it would go.
+     */
+    int find(long key) {
+        int index = (int) ((key * 0x9E3779B97F4A7C15L) >>> hashShift);
+        while (keys[index] != 0L) {
+            if (keys[index] == key) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return ~index;
+    }
+
+    /**
+     * Claims a slot for a key that is not in the table; the caller fills its values
+     * from {@code slot * width}.
+     */
+    int insert(long key) {
+        if (size >= limit) {
+            clear();
+        }
+        int index = ~find(key);
+        keys[index] = key;
+        size++;
+        return index;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        Arrays.fill(keys, 0L);
+        size = 0;
+    }
+}
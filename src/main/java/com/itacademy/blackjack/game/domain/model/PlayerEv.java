@@ -0,0 +1,12 @@
+package com.itacademy.blackjack.game.domain.model;
+
+/**
+ * Expected value of standing and of hitting, in bets: +1 for a win, -1 for a loss,
+ * 0 for a push. The hit value assumes every later decision is the better one.
+ */
+public record PlayerEv(double stand, double hit) {
+
+    public boolean shouldHit() {
+        return hit > stand;
+    }
+}
@@ -0,0 +1,134 @@
+package com.itacademy.blackjack.game.domain.model;
+
+/**
+ * Exact expected values of standing and hitting for the player's hand against the
+ * crupier's upcard, over the cards the player has not seen (counts per value as in
+ * {@link DealerOddsCalculator}, hole card included).
+ * <p>
+ * Standing is scored against the crupier's final totals from {@link DealerOddsCalculator};
+ * hitting averages, over each card left, a bust or the better of standing and hitting
+ * again with that card out of the shoe. Rules are this game's: a player bust loses at
+ * once, and the crupier's two-card 21 is just 21, since it does not check for
+ * blackjack before the player acts.
+ * <p>
+ * The best value of each player state (hard total, soft flag, upcard, counts left) is
+ * memoized under one packed long in a {@link MemoTable}, on top of the crupier's own
+ * memo, so neither recursion allocates once warm. Not thread-safe: keep one per thread.
+ */
+public final class PlayerEvCalculator {
+
+    private static final int HARD_SHIFT = 52;
+    private static final long SOFT_BIT = 1L << 57;
+    private static final int UPCARD_SHIFT = 58;
+
+    private final DealerOddsCalculator dealer;
+    private final MemoTable memo;
+    private final int[] counts = new int[11];
+    private final double[] dealerOutcomes = new double[DealerOddsCalculator.OUTCOMES];
+    private int upcard;
+
+    /**
+     * @param capacity slots of each memo, the player's and the crupier's
+     */
+    public PlayerEvCalculator(int capacity) {
+        this.dealer = new DealerOddsCalculator(capacity);
+        this.memo = new MemoTable(capacity, 1);
+    }
+
+    /**
+     * One long naming a situation, for caches in front of {@link #evaluate}: two hands with
+     * the same hard total and soft flag are worth the same against the same cards.
+     */
+    public static long situation(int hardTotal, boolean hasAce, int upcardValue, int[] unseen) {
+        return key(hardTotal, hasAce && hardTotal <= 11, upcardValue, DealerOddsCalculator.composition(unseen));
+    }
+
+    /**
+     * @param hardTotal   the player's total counting aces as 1, at most 21
+     * @param hasAce      whether the player holds an ace
+     * @param upcardValue the crupier's upcard, 1 for an ace
+     * @param unseen      counts per value of the cards the player cannot see; not modified
+     */
+    public PlayerEv evaluate(int hardTotal, boolean hasAce, int upcardValue, int[] unseen) {
+        if (hardTotal < 2 || hardTotal > 21) {
+            throw new IllegalArgumentException("No decision to make on a hard total of " + hardTotal);
+        }
+        if (upcardValue < 1 || upcardValue > 10) {
+            throw new IllegalArgumentException("Invalid upcard value: " + upcardValue);
+        }
+        long composition = DealerOddsCalculator.composition(unseen);
+        int remaining = 0;
+        for (int value = 1; value <= 10; value++) {
+            counts[value] = unseen[value];
+            remaining += unseen[value];
+        }
+        upcard = upcardValue;
+        boolean soft = hasAce && hardTotal <= 11;
+        return new PlayerEv(stand(soft ? hardTotal + 10 : hardTotal), hit(hardTotal, soft, composition, remaining));
+    }
+
+    public int memoSize() {
+        return memo.size();
+    }
+
+    public void clearMemo() {
+        memo.clear();
+        dealer.clearMemo();
+    }
+
+    private static long key(int hard, boolean soft, int upcardValue, long composition) {
+        return composition | (long) hard << HARD_SHIFT | (soft ? SOFT_BIT : 0L) | (long) upcardValue << UPCARD_SHIFT;
+    }
+
+    // Against the crupier drawing from the current counts
+    private double stand(int score) {
+        dealer.finalTotals(upcard, upcard == 1, counts, dealerOutcomes);
+        double ev = dealerOutcomes[DealerOddsCalculator.BUST];
+        for (int total = 17; total <= 21; total++) {
+            double probability = dealerOutcomes[total - 17];
+            if (score > total) {
+                ev += probability;
+            } else if (score < total) {
+                ev -= probability;
+            }
+        }
+        return ev;
+    }
+
+    private double hit(int hard, boolean soft, long composition, int remaining) {
+        if (remaining == 0) {
+            return Double.NEGATIVE_INFINITY;
+        }
+        double ev = 0;
+        for (int value = 1; value <= 10; value++) {
+            int count = counts[value];
+            if (count == 0) {
+                continue;
+            }
+            double probability = (double) count / remaining;
+            int nextHard = hard + value;
+            if (nextHard > 21) {
+                ev -= probability;
+                continue;
+            }
+            counts[value]--;
+            ev += probability * best(nextHard, (soft || value == 1) && nextHard <= 11,
+                    composition - DealerOddsCalculator.unit(value), remaining - 1);
+            counts[value]++;
+        }
+        return ev;
+    }
+
+    private double best(int hard, boolean soft, long composition, int remaining) {
+        long key = key(hard, soft, upcard, composition);
+        int slot = memo.find(key);
+        if (slot >= 0) {
+            return memo.values[slot];
+        }
+        double stand = stand(soft ? hard + 10 : hard);
+        // Hitting a hard 21 always busts
+        double best = hard == 21 ? stand : Math.max(stand, hit(hard, soft, composition, remaining));
+        memo.values[memo.insert(key)] = best;
+        return best;
+    }
+}
@@ -0,0 +1,8 @@
+package com.itacademy.blackjack.game.domain.model.exception;
+
+
+public class GameConflictException extends RuntimeException {
+    public GameConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,416 @@
+package com.itacademy.blackjack.game.infrastructure.persistence.memory;
+
+import com.itacademy.blackjack.game.domain.model.Game;
+import com.itacademy.blackjack.game.domain.model.GameStatus;
+import com.itacademy.blackjack.game.domain.model.exception.GameConflictException;
+import com.itacademy.blackjack.game.infrastructure.persistence.mongo.document.GameDocument;
+import com.itacademy.blackjack.game.infrastructure.persistence.mongo.repository.GameRepository;
+import com.itacademy.blackjack.game.infrastructure.persistence.mongo.repository.GameRepositoryImpl;
+import com.itacademy.blackjack.game.infrastructure.persistence.mongo.repository.GameResultCounts;
+import com.itacademy.blackjack.game.infrastructure.persistence.mongo.repository.GameSnapshot;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-process store of live games in front of the Mongo repository.
+ * <p>
+ * Actions read and update the cached {@link Game} without touching Mongo. Unfinished
+ * games are written behind: changes are coalesced and flushed every
+ * {@code blackjack.game-store.flush-interval}. A game that reaches
+ * {@link GameStatus#FINISHED} is flushed before {@link #save(Game)} completes and then
+ * leaves the store, so history and stats queries always see finished games.
+ * Entries are evicted after {@code idle-timeout} without access, or oldest first
+ * once the store grows past {@code max-size}; only entries that are flushed and have
+ * no write in flight are evicted. A request may still hold an evicted game, so its
+ * last snapshot is kept, weakly keyed on the game instance, and the save that follows
+ * updates the stored document instead of inserting it again.
+ * <p>
+ * Deleting a game waits for its flush in flight, and saves of a deleted game instance
+ * are rejected, so a flush racing the delete cannot re-create the document.
+ * <p>
+ * The first flush of a new game inserts the whole document. Later flushes only send
+ * what changed since the last successful write (see {@link GameRepositoryImpl#update}),
+ * so flushes of one game are chained and never overlap.
+ * <p>
+ * Updates are conditioned on the document version. When another node changed the
+ * game first, the flush fails with {@link GameConflictException}. For finished games
+ * the conflict reaches the caller of {@link #save(Game)}, which can retry the action.
+ * An unfinished game was already answered for, so the entry keeps the conflict and the
+ * next {@link #findById} or {@link #save} of that game fails with it, telling the client
+ * its last action was lost; the entry is dropped then, and the request after that
+ * reloads the game from Mongo.
+ * <p>
+ * Callers mutating a cached game must hold its monitor ({@code synchronized (game)});
+ * the store takes the same lock while mapping a game for a flush.
+ */
+@Slf4j
+@Primary
+@Repository
+public class ActiveGameStore implements GameRepository {
+
+    private static final String METRIC_PREFIX = "blackjack.games.store";
+
+    private final GameRepositoryImpl mongoGames;
+    private final int maxSize;
+    private final long idleTimeoutNanos;
+    private final Duration flushInterval;
+
+    private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicInteger dirtyCount = new AtomicInteger();
+    // Game has identity equality, so these are keyed on the instance a request holds
+    private final Map<Game, GameSnapshot> evictedSnapshots = Collections.synchronizedMap(new WeakHashMap<>());
+    private final Set<Game> deletedGames = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter flushErrors;
+    private final Counter flushConflicts;
+    private final Timer flushLag;
+
+    private Disposable flusher;
+
+    public ActiveGameStore(GameRepositoryImpl mongoGames,
+                           MeterRegistry meterRegistry,
+                           @Value("${blackjack.game-store.max-size:10000}") int maxSize,
+                           @Value("${blackjack.game-store.idle-timeout:10m}") Duration idleTimeout,
+                           @Value("${blackjack.game-store.flush-interval:500ms}") Duration flushInterval) {
+        this.mongoGames = mongoGames;
+        this.maxSize = maxSize;
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.flushInterval = flushInterval;
+
+        this.hits = Counter.builder(METRIC_PREFIX + ".requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder(METRIC_PREFIX + ".requests").tag("result", "miss").register(meterRegistry);
+        this.flushErrors = Counter.builder(METRIC_PREFIX + ".flush.errors").register(meterRegistry);
+        this.flushConflicts = Counter.builder(METRIC_PREFIX + ".flush.conflicts").register(meterRegistry);
+        this.flushLag = Timer.builder(METRIC_PREFIX + ".flush.lag")
+                .description("Time from the first unflushed change of a game to its write in Mongo")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".size", entries, Map::size).register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".dirty", dirtyCount, AtomicInteger::get).register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".hit.ratio", this, ActiveGameStore::hitRatio).register(meterRegistry);
+    }
+
+    @PostConstruct
+    void startFlusher() {
+        flusher = Flux.interval(flushInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> flushAndEvict(), 1)
+                .subscribe();
+    }
+
+    @PreDestroy
+    void stopFlusher() {
+        if (flusher != null) {
+            flusher.dispose();
+        }
+        flushAll().block(Duration.ofSeconds(10));
+    }
+
+    // ========== GameRepository ==========
+
+    @Override
+    public Mono<Game> save(Game game) {
+        if (deletedGames.contains(game)) {
+            return Mono.error(new GameConflictException("Game " + game.getId() + " was deleted"));
+        }
+        long now = System.nanoTime();
+        Entry entry = entries.computeIfAbsent(game.getId(), id -> {
+            Entry created = new Entry(game, now);
+            created.persisted = evictedSnapshots.remove(game);
+            return created;
+        });
+        if (entry.conflict != null) {
+            return Mono.error(takeConflict(entry));
+        }
+        entry.game = game;
+        entry.lastAccess = now;
+        markDirty(entry, now);
+
+        if (game.getGameStatus() == GameStatus.FINISHED) {
+            return flush(entry)
+                    .doOnSuccess(v -> entries.remove(game.getId(), entry))
+                    .doOnError(GameConflictException.class, e -> entries.remove(game.getId(), entry))
+                    .thenReturn(game);
+        }
+        if (entries.size() > maxSize) {
+            evictOldest();
+        }
+        return Mono.just(game);
+    }
+
+    @Override
+    public Mono<Game> findById(UUID id) {
+        Entry entry = entries.get(id);
+        if (entry != null && entry.conflict != null) {
+            return Mono.error(takeConflict(entry));
+        }
+        if (entry != null) {
+            hits.increment();
+            entry.lastAccess = System.nanoTime();
+            return Mono.just(entry.game);
+        }
+        misses.increment();
+        return mongoGames.findWithSnapshot(id)
+                .map(loaded -> {
+                    Game game = loaded.getT1();
+                    if (game.getGameStatus() == GameStatus.FINISHED) {
+                        return game;
+                    }
+                    // Another request may have loaded the same game meanwhile: keep the first one
+                    return entries.computeIfAbsent(id, key -> {
+                        Entry loadedEntry = new Entry(game, System.nanoTime());
+                        loadedEntry.persisted = loaded.getT2();
+                        return loadedEntry;
+                    }).game;
+                });
+    }
+
+    @Override
+    public Mono<Void> deleteById(UUID id) {
+        return forget(id).then(Mono.defer(() -> mongoGames.deleteById(id)));
+    }
+
+    // A game never flushed is only dropped from memory; it has no result to report anyway
+    @Override
+    public Mono<GameDocument> findAndDeleteById(UUID id) {
+        return forget(id).then(Mono.defer(() -> mongoGames.findAndDeleteById(id)));
+    }
+
+    // Drops the cached game for good and completes once its flush in flight, if any, is done
+    private Mono<Void> forget(UUID id) {
+        Entry removed = entries.remove(id);
+        if (removed == null) {
+            return Mono.empty();
+        }
+        synchronized (removed.game) {
+            removed.deleted = true;
+            deletedGames.add(removed.game);
+        }
+        discard(removed);
+        synchronized (removed) {
+            return removed.lastFlush.onErrorResume(e -> Mono.empty());
+        }
+    }
+
+    // History queries only need finished games, which are never left unflushed
+    @Override
+    public Flux<Game> findByPlayerId(UUID playerId) {
+        return mongoGames.findByPlayerId(playerId);
+    }
+
+    @Override
+    public Flux<GameDocument> findHistoryPage(UUID playerId, Instant beforeFinishedAt, UUID beforeId, int limit) {
+        return mongoGames.findHistoryPage(playerId, beforeFinishedAt, beforeId, limit);
+    }
+
+    // Finished games are always in Mongo, see save()
+    @Override
+    public Mono<GameResultCounts> countResultsByPlayerId(UUID playerId) {
+        return mongoGames.countResultsByPlayerId(playerId);
+    }
+
+    // Cached games keep their player: flushes after the first insert never rewrite playerId
+    @Override
+    public Mono<Long> reassignPlayer(Collection<UUID> fromPlayerIds, UUID toPlayerId) {
+        return mongoGames.reassignPlayer(fromPlayerIds, toPlayerId);
+    }
+
+    // ========== Write-behind ==========
+
+    /**
+     * Flushes every dirty game, evicts idle entries and trims the store to its size bound.
+     */
+    public Mono<Void> flushAndEvict() {
+        long now = System.nanoTime();
+        return Flux.fromIterable(entries.values())
+                .concatMap(entry -> {
+                    boolean idle = now - entry.lastAccess > idleTimeoutNanos;
+                    Mono<Void> flushed = flush(entry)
+                            .onErrorResume(e -> {
+                                if (e instanceof GameConflictException) {
+                                    log.warn("Game {} was changed elsewhere, its next request gets a conflict: {}",
+                                            entry.game.getId(), e.getMessage());
+                                } else {
+                                    log.error("Write-behind flush failed for game {}", entry.game.getId(), e);
+                                }
+                                return Mono.empty();
+                            });
+                    return idle ? flushed.doOnSuccess(v -> evictIfClean(entry)) : flushed;
+                })
+                .then(Mono.fromRunnable(() -> {
+                    if (entries.size() > maxSize) {
+                        evictOldest();
+                    }
+                }));
+    }
+
+    public Mono<Void> flushAll() {
+        return Flux.fromIterable(entries.values())
+                .concatMap(entry -> flush(entry).onErrorResume(e -> Mono.empty()))
+                .then();
+    }
+
+    // Each flush starts once the previous one of the same entry has finished, so a delta
+    // is always computed against a snapshot that is already in Mongo
+    private Mono<Void> flush(Entry entry) {
+        synchronized (entry) {
+            Mono<Void> next = entry.lastFlush
+                    .onErrorResume(e -> Mono.empty())
+                    .then(Mono.defer(() -> write(entry)))
+                    .cache();
+            entry.lastFlush = next;
+            return next;
+        }
+    }
+
+    private Mono<Void> write(Entry entry) {
+        long dirtySince;
+        GameSnapshot written;
+        Mono<Game> write;
+        Game game = entry.game;
+        synchronized (game) {
+            if (!entry.dirty || entry.deleted) {
+                return Mono.empty();
+            }
+            dirtySince = entry.dirtySince;
+            entry.dirty = false;
+            entry.flushing = true;
+            dirtyCount.decrementAndGet();
+            // GameRepositoryImpl maps the game eagerly, so what is sent matches the snapshot
+            written = entry.persisted == null ? GameSnapshot.inserted(game) : entry.persisted.next(game);
+            write = entry.persisted == null
+                    ? mongoGames.save(game)
+                    : mongoGames.update(game, entry.persisted);
+        }
+        return write
+                .doOnSuccess(saved -> {
+                    entry.persisted = written;
+                    flushLag.record(System.nanoTime() - dirtySince, TimeUnit.NANOSECONDS);
+                })
+                .doOnError(e -> {
+                    if (e instanceof GameConflictException conflict) {
+                        // The cached game is stale: Mongo wins, and the next request hears about it
+                        flushConflicts.increment();
+                        discard(entry);
+                        entry.conflict = conflict;
+                        return;
+                    }
+                    flushErrors.increment();
+                    markDirty(entry, dirtySince);
+                })
+                .doOnTerminate(() -> endFlush(entry))
+                .doOnCancel(() -> endFlush(entry))
+                .then();
+    }
+
+    private void endFlush(Entry entry) {
+        synchronized (entry.game) {
+            entry.flushing = false;
+        }
+    }
+
+    private void markDirty(Entry entry, long now) {
+        synchronized (entry.game) {
+            if (!entry.dirty) {
+                entry.dirty = true;
+                entry.dirtySince = now;
+                dirtyCount.incrementAndGet();
+            }
+        }
+    }
+
+    // Removes a conflicted entry and returns the error for the request that found it
+    private GameConflictException takeConflict(Entry entry) {
+        entries.remove(entry.game.getId(), entry);
+        return new GameConflictException("Game " + entry.game.getId()
+                + " was changed elsewhere and its last action was not saved: " + entry.conflict.getMessage());
+    }
+
+    private void discard(Entry entry) {
+        synchronized (entry.game) {
+            if (entry.dirty) {
+                entry.dirty = false;
+                dirtyCount.decrementAndGet();
+            }
+        }
+    }
+
+    private void evictOldest() {
+        entries.values().stream()
+                .filter(entry -> !entry.dirty && !entry.flushing && entry.conflict == null)
+                .sorted(Comparator.comparingLong(entry -> entry.lastAccess))
+                .limit(Math.max(0, entries.size() - maxSize))
+                .forEach(this::evictIfClean);
+    }
+
+    private void evictIfClean(Entry entry) {
+        synchronized (entry.game) {
+            if (!entry.dirty && !entry.flushing && entries.remove(entry.game.getId(), entry)
+                    && entry.persisted != null && entry.conflict == null) {
+                evictedSnapshots.put(entry.game, entry.persisted);
+            }
+        }
+    }
+
+    private double hitRatio() {
+        double total = hits.count() + misses.count();
+        return total == 0 ? 0.0 : hits.count() / total;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    int dirtyEntries() {
+        return dirtyCount.get();
+    }
+
+    private static final class Entry {
+        volatile Game game;
+        volatile long lastAccess;
+        // Guarded by the game monitor
+        boolean dirty;
+        // Guarded by the game monitor: a write to Mongo has started and not finished
+        boolean flushing;
+        // Guarded by the game monitor: removed by a delete, never to be written again
+        boolean deleted;
+        // System.nanoTime() of the first unflushed change
+        long dirtySince;
+        // What Mongo holds after the last successful flush, null until the first insert
+        volatile GameSnapshot persisted;
+        // Set when a write-behind flush lost to another writer, until a request is told
+        volatile GameConflictException conflict;
+        // Guarded by the entry monitor
+        Mono<Void> lastFlush = Mono.empty();
+
+        Entry(Game game, long now) {
+            this.game = game;
+            this.lastAccess = now;
+        }
+    }
+}
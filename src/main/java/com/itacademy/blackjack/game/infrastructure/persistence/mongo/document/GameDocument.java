@@ -7,24 +7,42 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.UUID;
 
 @Document(collection = "games")
+// Created at startup by GameIndexInitializer; GameIndexExplainTest checks every query uses one
+@CompoundIndexes({
+        // History of a player, newest first; _id breaks ties for keyset paging
+        @CompoundIndex(name = "playerId_finishedAt_id", def = "{'playerId': 1, 'finishedAt': -1, '_id': -1}"),
+        // Result counts of a player, covered by the index
+        @CompoundIndex(name = "playerId_gameResult", def = "{'playerId': 1, 'gameResult': 1}"),
+        @CompoundIndex(name = "gameResult_finishedAt", def = "{'gameResult': 1, 'finishedAt': -1}"),
+        // Only live games: finished ones are the bulk of the collection and never looked up by status
+        @CompoundIndex(name = "unfinished_gameStatus", def = "{'gameStatus': 1, 'createdAt': 1}",
+                partialFilter = "{'gameStatus': {'$in': ['CREATED', 'STARTED', 'PLAYER_TURN', 'CRUPIER_TURN']}}")
+})
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class GameDocument {
 
+    // Stored as BSON binary subtype 4 (see MongoConfig)
     @Id
-    private String id;
+    private UUID id;
 
     // Player information
-    private String playerId;
+    private UUID playerId;
+    @Indexed(name = "playerName")
     private String playerName;
     private List<CardDocument> playerCards;
     private int playerScore;
@@ -39,6 +57,13 @@ public class GameDocument {
     @Field("gameResult")
     private GameResult gameResult;
 
+    // Deck count, then the remaining shoe in draw order, one byte per card (see Deck#toShoeState)
+    private byte[] shoe;
+
+    // Bumped by every write; updates only apply to the version they were computed from
+    @Version
+    private Long version;
+
     // Timestamps
     private Instant createdAt;
     private Instant finishedAt;
@@ -2,6 +2,8 @@ package com.itacademy.blackjack.game.infrastructure.persistence.mongo.mapper;
 
 import com.itacademy.blackjack.game.domain.model.Game;
 import com.itacademy.blackjack.game.infrastructure.persistence.mongo.document.GameDocument;
+import com.itacademy.blackjack.game.infrastructure.persistence.mongo.repository.GameSnapshot;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Component;
 
 
@@ -9,4 +11,7 @@ import org.springframework.stereotype.Component;
 public interface GameMapper {
     GameDocument toDocument(Game game);
     Game toDomain(GameDocument document);
+
+    // Changes since the persisted snapshot: new cards are pushed, scalar fields set
+    Update toUpdate(Game game, GameSnapshot persisted);
 }
@@ -3,7 +3,11 @@ package com.itacademy.blackjack.game.infrastructure.persistence.mongo.mapper;
 import com.itacademy.blackjack.deck.model.Card;
 import com.itacademy.blackjack.game.domain.model.*;
 import com.itacademy.blackjack.game.infrastructure.persistence.mongo.document.GameDocument;
+import com.itacademy.blackjack.game.infrastructure.persistence.mongo.repository.GameSnapshot;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Component;
+
+import java.time.Instant;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -17,18 +21,19 @@ public class GameMapperImp implements GameMapper {
                 .collect(Collectors.toList());
     }
 
-    // Game (domain) → GameDocument (MongoDB)
+    // Game (domain) → GameDocument (MongoDB), called under the game's monitor like toUpdate
     public GameDocument toDocument(Game game) {
         return GameDocument.builder()
-                .id(game.getId().toString())
-                .playerId(game.getPlayer().getId().toString())
+                .id(game.getId())
+                .playerId(game.getPlayer().getId())
                 .playerName(game.getPlayer().getName())
-                .playerCards(toCardDocumentList(game.getPlayer().getHand().getCards()))
+                .playerCards(toCardDocumentList(game.getPlayer().getHand().cardsView()))
                 .playerScore(game.getPlayer().getScore())
-                .crupierCards(toCardDocumentList(game.getCrupier().getHand().getCards()))
+                .crupierCards(toCardDocumentList(game.getCrupier().getHand().cardsView()))
                 .crupierScore(game.getCrupier().getScore())
                 .gameStatus(game.getGameStatus())
                 .gameResult(game.getGameResult())
+                .shoe(game.getDeck().toShoeState())
                 .build();
     }
 
@@ -42,10 +47,37 @@ public class GameMapperImp implements GameMapper {
                 toCardDataList(document.getPlayerCards()),
                 toCardDataList(document.getCrupierCards()),
                 document.getGameStatus(),
-                document.getGameResult()
+                document.getGameResult(),
+                document.getShoe()
         );
     }
 
+    // Game (domain) → delta against what is already stored
+    public Update toUpdate(Game game, GameSnapshot persisted) {
+        Update update = new Update()
+                .set("playerScore", game.getPlayer().getScore())
+                .set("crupierScore", game.getCrupier().getScore())
+                .set("gameStatus", game.getGameStatus())
+                .set("gameResult", game.getGameResult())
+                .set("shoe", game.getDeck().toShoeState())
+                .inc("version", 1);
+
+        List<Card> playerCards = game.getPlayer().getHand().cardsView();
+        if (playerCards.size() > persisted.playerCards()) {
+            update.push("playerCards").each(toCardDocumentList(
+                    playerCards.subList(persisted.playerCards(), playerCards.size())).toArray());
+        }
+        List<Card> crupierCards = game.getCrupier().getHand().cardsView();
+        if (crupierCards.size() > persisted.crupierCards()) {
+            update.push("crupierCards").each(toCardDocumentList(
+                    crupierCards.subList(persisted.crupierCards(), crupierCards.size())).toArray());
+        }
+        if (game.getGameStatus() == GameStatus.FINISHED && persisted.gameStatus() != GameStatus.FINISHED) {
+            update.set("finishedAt", Instant.now());
+        }
+        return update;
+    }
+
     // Card (enum) → CardDocument (String)
     private List<GameDocument.CardDocument> toCardDocumentList(List<Card> cards) {
         return cards.stream()
@@ -0,0 +1,74 @@
+package com.itacademy.blackjack.game.infrastructure.persistence.mongo.migration;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.schema.JsonSchemaObject;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Rewrites games stored with text ids into binary UUID ids.
+ * <p>
+ * {@code _id} can't be changed in place, so each old document is copied under the
+ * binary id and then removed. A copy that already exists (an earlier run stopped
+ * between both steps) is kept.
+ * <p>
+ * Runs while the context starts, before anything serves requests: until a game is
+ * converted, lookups by its binary id, history pages and result counts all miss it.
+ * A failure stops startup, so the application never runs with games it cannot see.
+ */
+@Slf4j
+@Component
+public class GameIdMigration {
+
+    private static final String COLLECTION = "games";
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final Duration timeout;
+
+    public GameIdMigration(ReactiveMongoTemplate mongoTemplate,
+                           @Value("${blackjack.game-id-migration.timeout:5m}") Duration timeout) {
+        this.mongoTemplate = mongoTemplate;
+        this.timeout = timeout;
+    }
+
+    // Blocking on purpose, like PlayerSchemaInitializer: requests must find every game by its binary id
+    @PostConstruct
+    void initialize() {
+        Long count = migrate()
+                .onErrorMap(e -> new IllegalStateException("Game id migration failed", e))
+                .block(timeout);
+        if (count != null && count > 0) {
+            log.info("Converted {} game ids to binary UUIDs", count);
+        }
+    }
+
+    public Mono<Long> migrate() {
+        Query textIds = new Query(Criteria.where("_id").type(JsonSchemaObject.Type.STRING));
+        return mongoTemplate.find(textIds, Document.class, COLLECTION)
+                .concatMap(this::migrate)
+                .count();
+    }
+
+    private Mono<Void> migrate(Document old) {
+        String oldId = old.getString("_id");
+        Document copy = new Document(old);
+        copy.put("_id", UUID.fromString(oldId));
+        if (old.get("playerId") instanceof String playerId) {
+            copy.put("playerId", UUID.fromString(playerId));
+        }
+        return mongoTemplate.insert(copy, COLLECTION)
+                .onErrorResume(DuplicateKeyException.class, e -> Mono.empty())
+                .then(mongoTemplate.remove(new Query(Criteria.where("_id").is(oldId)), COLLECTION))
+                .then();
+    }
+}
@@ -0,0 +1,48 @@
+package com.itacademy.blackjack.game.infrastructure.persistence.mongo.migration;
+
+import com.itacademy.blackjack.game.infrastructure.persistence.mongo.document.GameDocument;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.index.ReactiveIndexOperations;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Creates the indexes declared on {@link GameDocument} when they are missing.
+ * Spring Boot leaves automatic index creation off, so the annotations alone do nothing.
+ * {@code ensureIndex} is a no-op for an index that already exists with the same definition.
+ */
+@Slf4j
+@Component
+public class GameIndexInitializer {
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final MongoMappingContext mappingContext;
+
+    public GameIndexInitializer(ReactiveMongoTemplate mongoTemplate, MongoMappingContext mappingContext) {
+        this.mongoTemplate = mongoTemplate;
+        this.mappingContext = mappingContext;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void onApplicationReady() {
+        ensureIndexes().subscribe();
+    }
+
+    public Mono<Void> ensureIndexes() {
+        ReactiveIndexOperations indexOps = mongoTemplate.indexOps(GameDocument.class);
+        return Flux.fromIterable(IndexResolver.create(mappingContext).resolveIndexFor(GameDocument.class))
+                .concatMap(index -> indexOps.ensureIndex(index)
+                        .doOnNext(name -> log.debug("Index {} on games is in place", name))
+                        .onErrorResume(e -> {
+                            log.error("Could not create index {} on games", index.getIndexKeys(), e);
+                            return Mono.empty();
+                        }))
+                .then();
+    }
+}
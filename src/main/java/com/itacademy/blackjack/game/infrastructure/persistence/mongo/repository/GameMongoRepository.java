@@ -6,12 +6,14 @@ import com.jayway.jsonpath.JsonPath;
 import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
 import reactor.core.publisher.Flux;
 
+import java.util.UUID;
+
 /**
  * Repository for Game document persistence operations.
  * Provides reactive CRUD operations and custom queries.
  */
 public interface GameMongoRepository extends
-        ReactiveMongoRepository<GameDocument, String> {
+        ReactiveMongoRepository<GameDocument, UUID> {
 
     Flux<GameDocument> findByPlayerName(String playerName);
 
@@ -19,7 +21,7 @@ public interface GameMongoRepository extends
 
     Flux<GameDocument> findByGameResult(String gameResult);
 
-    Flux<GameDocument> findByPlayerId(String playerId);
+    Flux<GameDocument> findByPlayerId(UUID playerId);
 
 
 
@@ -5,6 +5,8 @@ import com.itacademy.blackjack.game.infrastructure.persistence.mongo.document.Ga
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.UUID;
 
 public interface GameRepository {
@@ -14,9 +16,19 @@ public interface GameRepository {
 
     Mono<Void> deleteById(UUID id);
 
+    // Deletes the game and returns its playerId and gameResult as stored, empty if there was none
+    Mono<GameDocument> findAndDeleteById(UUID id);
+
     Flux<Game> findByPlayerId(UUID playerId);
 
-    // New method to get documents with timestamps
-    Flux<GameDocument> findDocumentsByPlayerId(UUID playerId);
+    // Finished games of the player, newest first, after (beforeFinishedAt, beforeId) when beforeId is set.
+    // Documents only carry id, result, scores and timestamps
+    Flux<GameDocument> findHistoryPage(UUID playerId, Instant beforeFinishedAt, UUID beforeId, int limit);
+
+    // Finished games of the player by outcome, counted by the database
+    Mono<GameResultCounts> countResultsByPlayerId(UUID playerId);
+
+    // Moves every stored game of the given players to another player, returns how many moved
+    Mono<Long> reassignPlayer(Collection<UUID> fromPlayerIds, UUID toPlayerId);
 
 }
\ No newline at end of file
@@ -1,56 +1,181 @@
 package com.itacademy.blackjack.game.infrastructure.persistence.mongo.repository;
 
 import com.itacademy.blackjack.game.domain.model.Game;
+import com.itacademy.blackjack.game.domain.model.GameResult;
+import com.itacademy.blackjack.game.domain.model.GameStatus;
+import com.itacademy.blackjack.game.domain.model.exception.GameConflictException;
 import com.itacademy.blackjack.game.infrastructure.persistence.mongo.document.GameDocument;
 import com.itacademy.blackjack.game.infrastructure.persistence.mongo.mapper.GameMapper;
+import com.mongodb.client.result.UpdateResult;
 import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
 
 import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 @RequiredArgsConstructor
 public class GameRepositoryImpl implements GameRepository {
 
+    private static final List<String> FINISHED_RESULTS = Stream.of(GameResult.values())
+            .filter(result -> result != GameResult.NO_RESULTS_YET)
+            .map(GameResult::name)
+            .toList();
+
     private final GameMongoRepository mongoRepository;
     private final GameMapper mapper;
+    private final ReactiveMongoTemplate mongoTemplate;
 
+    // Full document write, meant for the first save of a game. The document has no
+    // version yet, so this is an insert and fails if the game is already stored
     @Override
     public Mono<Game> save(Game game) {
         GameDocument document = mapper.toDocument(game);
-        // Add timestamp if not already set
-        if (document.getCreatedAt() == null) {
-            document.setCreatedAt(Instant.now());
+        Instant now = Instant.now();
+        document.setCreatedAt(now);
+        if (game.getGameStatus() == GameStatus.FINISHED) {
+            document.setFinishedAt(now);
         }
-        document.setFinishedAt(Instant.now());
         return mongoRepository.save(document)
+                .onErrorMap(DuplicateKeyException.class,
+                        e -> new GameConflictException("Game " + game.getId() + " is already stored"))
                 .map(mapper::toDomain);
     }
 
+    /**
+     * Writes only what changed since {@code persisted}: new cards are pushed and the
+     * scores, status, result and shoe are set. {@code finishedAt} is only set when
+     * the game finishes in this update. The update is built before this method
+     * returns, so callers may hand in a game they keep mutating afterwards.
+     * <p>
+     * The write is a single {@code findAndModify} conditioned on the snapshot's version
+     * and status, and bumps the version. If the document moved on meanwhile nothing is
+     * written and the result fails with {@link GameConflictException}.
+     */
+    public Mono<Game> update(Game game, GameSnapshot persisted) {
+        return mongoTemplate.findAndModify(versionedQuery(game.getId(), persisted),
+                        mapper.toUpdate(game, persisted), GameDocument.class)
+                .switchIfEmpty(Mono.error(new GameConflictException(
+                        "Game " + game.getId() + " was modified by another request")))
+                .thenReturn(game);
+    }
+
+    // Shared with GameIndexExplainTest
+    static Query versionedQuery(UUID id, GameSnapshot persisted) {
+        Criteria criteria = Criteria.where("_id").is(id)
+                .and("gameStatus").is(persisted.gameStatus());
+        // Version 0 also matches documents stored before the version field existed
+        criteria = persisted.version() == 0
+                ? criteria.and("version").in(0L, null)
+                : criteria.and("version").is(persisted.version());
+        Query query = Query.query(criteria);
+        query.fields().include("_id");
+        return query;
+    }
+
+    // Loads a game together with the snapshot later updates are checked against
+    public Mono<Tuple2<Game, GameSnapshot>> findWithSnapshot(UUID id) {
+        return mongoRepository.findById(id)
+                .map(document -> Tuples.of(mapper.toDomain(document), GameSnapshot.of(document)));
+    }
+
     @Override
     public Mono<Game> findById(UUID id) {
-        return mongoRepository.findById(id.toString())
+        return mongoRepository.findById(id)
                 .map(mapper::toDomain);
     }
 
     @Override
     public Mono<Void> deleteById(UUID id) {
-        return mongoRepository.deleteById(id.toString());
+        return mongoRepository.deleteById(id);
+    }
+
+    // Single findAndRemove, so the result is read from exactly the document that was deleted
+    @Override
+    public Mono<GameDocument> findAndDeleteById(UUID id) {
+        Query query = Query.query(Criteria.where("_id").is(id));
+        query.fields().include("playerId", "gameResult");
+        return mongoTemplate.findAndRemove(query, GameDocument.class);
     }
 
     @Override
     public Flux<Game> findByPlayerId(UUID playerId) {
-        return mongoRepository.findByPlayerId(playerId.toString())
+        return mongoRepository.findByPlayerId(playerId)
                 .map(mapper::toDomain);
     }
 
+    /**
+     * Keyset page over (finishedAt desc, _id desc), filtered, sorted and limited in Mongo
+     * and read straight off the playerId_finishedAt_id index. Cards and shoe are not loaded.
+     */
     @Override
-    public Flux<GameDocument> findDocumentsByPlayerId(UUID playerId) {
-        return mongoRepository.findByPlayerId(playerId.toString());
+    public Flux<GameDocument> findHistoryPage(UUID playerId, Instant beforeFinishedAt, UUID beforeId, int limit) {
+        return mongoTemplate.find(historyPageQuery(playerId, beforeFinishedAt, beforeId, limit), GameDocument.class);
     }
 
+    // Shared with GameIndexExplainTest, which checks the plan of exactly this query
+    static Query historyPageQuery(UUID playerId, Instant beforeFinishedAt, UUID beforeId, int limit) {
+        Criteria criteria = Criteria.where("playerId").is(playerId)
+                .and("gameResult").in(FINISHED_RESULTS);
+        if (beforeId != null) {
+            criteria = criteria.orOperator(
+                    Criteria.where("finishedAt").lt(beforeFinishedAt),
+                    Criteria.where("finishedAt").is(beforeFinishedAt).and("_id").lt(beforeId));
+        }
+        Query query = Query.query(criteria)
+                .with(Sort.by(Sort.Order.desc("finishedAt"), Sort.Order.desc("_id")))
+                .limit(limit);
+        query.fields().include("gameResult", "playerScore", "crupierScore", "createdAt", "finishedAt");
+        return query;
+    }
+
+    /**
+     * One {@code $match}/{@code $group} aggregation on (playerId, gameResult), covered by
+     * the index of the same name: only one count per outcome leaves the server.
+     */
+    @Override
+    public Mono<GameResultCounts> countResultsByPlayerId(UUID playerId) {
+        return mongoTemplate.aggregate(resultCountsAggregation(playerId), Document.class)
+                .reduce(GameResultCounts.NONE, (counts, row) -> counts.plus(
+                        GameResult.valueOf(row.getString("_id")),
+                        row.get("count", Number.class).longValue()));
+    }
+
+    // Shared with GameIndexExplainTest
+    static TypedAggregation<GameDocument> resultCountsAggregation(UUID playerId) {
+        return Aggregation.newAggregation(GameDocument.class,
+                Aggregation.match(Criteria.where("playerId").is(playerId)
+                        .and("gameResult").in(FINISHED_RESULTS)),
+                Aggregation.group("gameResult").count().as("count"));
+    }
 
+    // One updateMulti on the playerId index; running it again moves nothing
+    @Override
+    public Mono<Long> reassignPlayer(Collection<UUID> fromPlayerIds, UUID toPlayerId) {
+        return mongoTemplate.updateMulti(gamesOfPlayersQuery(fromPlayerIds),
+                        new Update().set("playerId", toPlayerId),
+                        GameDocument.class)
+                .map(UpdateResult::getModifiedCount);
+    }
+
+    // Shared with GameIndexExplainTest
+    static Query gamesOfPlayersQuery(Collection<UUID> playerIds) {
+        return Query.query(Criteria.where("playerId").in(playerIds));
+    }
 }
@@ -0,0 +1,21 @@
+package com.itacademy.blackjack.game.infrastructure.persistence.mongo.repository;
+
+import com.itacademy.blackjack.game.domain.model.GameResult;
+
+/**
+ * Finished games of one player by outcome, as counted in Mongo.
+ * Blackjacks count as wins, like in the player's stats.
+ */
+public record GameResultCounts(long wins, long losses, long pushes) {
+
+    public static final GameResultCounts NONE = new GameResultCounts(0, 0, 0);
+
+    public GameResultCounts plus(GameResult result, long count) {
+        return switch (result) {
+            case PLAYER_WINS, BLACKJACK -> new GameResultCounts(wins + count, losses, pushes);
+            case CRUPIER_WINS -> new GameResultCounts(wins, losses + count, pushes);
+            case PUSH -> new GameResultCounts(wins, losses, pushes + count);
+            case NO_RESULTS_YET -> this;
+        };
+    }
+}
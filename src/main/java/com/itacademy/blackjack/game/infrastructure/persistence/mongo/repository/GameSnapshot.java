@@ -0,0 +1,41 @@
+package com.itacademy.blackjack.game.infrastructure.persistence.mongo.repository;
+
+import com.itacademy.blackjack.game.domain.model.Game;
+import com.itacademy.blackjack.game.domain.model.GameStatus;
+import com.itacademy.blackjack.game.infrastructure.persistence.mongo.document.GameDocument;
+
+/**
+ * What the stored game document already holds, used as the base for delta updates.
+ * {@code version} is the document version the next update expects to find.
+ */
+public record GameSnapshot(int playerCards, int crupierCards, GameStatus gameStatus, long version) {
+
+    // Documents written before versioning have no version field and count as version 0
+    public static GameSnapshot of(GameDocument document) {
+        return new GameSnapshot(
+                document.getPlayerCards() == null ? 0 : document.getPlayerCards().size(),
+                document.getCrupierCards() == null ? 0 : document.getCrupierCards().size(),
+                document.getGameStatus(),
+                document.getVersion() == null ? 0 : document.getVersion()
+        );
+    }
+
+    // State right after the first insert of the game
+    public static GameSnapshot inserted(Game game) {
+        return of(game, 0);
+    }
+
+    // State after an update of this snapshot with the given game succeeded
+    public GameSnapshot next(Game game) {
+        return of(game, version + 1);
+    }
+
+    private static GameSnapshot of(Game game, long version) {
+        return new GameSnapshot(
+                game.getPlayer().getHand().getCardCount(),
+                game.getCrupier().getHand().getCardCount(),
+                game.getGameStatus(),
+                version
+        );
+    }
+}
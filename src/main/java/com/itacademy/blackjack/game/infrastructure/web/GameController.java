@@ -1,8 +1,11 @@
 package com.itacademy.blackjack.game.infrastructure.web;
 
 import com.itacademy.blackjack.game.application.GameService;
+import com.itacademy.blackjack.game.application.dto.DealerOddsResponse;
+import com.itacademy.blackjack.game.application.dto.GameEvent;
 import com.itacademy.blackjack.game.application.dto.GameRequest;
 import com.itacademy.blackjack.game.application.dto.GameResponse;
+import com.itacademy.blackjack.game.application.dto.HintResponse;
 import com.itacademy.blackjack.game.domain.model.exception.ResourceNotFoundException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -12,7 +15,10 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.UUID;
@@ -55,6 +61,50 @@ public class GameController {
                 .switchIfEmpty(Mono.error(new ResourceNotFoundException("Game not found with id: " + id)));
     }
 
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream game events", description = "Server-Sent Events for a live game: "
+            + "CardDealt, StatusChanged and GameFinished, named by the SSE event field. Replays the "
+            + "last buffered events on connect and completes when the game finishes")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Event stream opened"),
+            @ApiResponse(responseCode = "404", description = "Game not found")
+    })
+    public Flux<ServerSentEvent<GameEvent>> events(@PathVariable UUID id) {
+        return gameService.gameEvents(id)
+                .map(event -> ServerSentEvent.builder(event)
+                        .event(event.getClass().getSimpleName())
+                        .build());
+    }
+
+    @GetMapping("/{id}/odds")
+    @Operation(summary = "Crupier odds", description = "Exact probabilities of the crupier ending on "
+            + "17 to 21 or busting from its upcard, over the cards still unseen by the player "
+            + "(the rest of the shoe and the crupier's hole card)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Odds computed",
+                    content = @Content(schema = @Schema(implementation = DealerOddsResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Game not found")
+    })
+    @ResponseStatus(HttpStatus.OK)
+    public Mono<DealerOddsResponse> odds(@PathVariable UUID id) {
+        return gameService.getDealerOdds(id);
+    }
+
+    @GetMapping("/{id}/hint")
+    @Operation(summary = "Hit or stand hint", description = "Exact expected value of standing and of "
+            + "hitting for the player's hand against the crupier's upcard, over the cards still unseen "
+            + "by the player, with the better action")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Hint computed",
+                    content = @Content(schema = @Schema(implementation = HintResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Game not found"),
+            @ApiResponse(responseCode = "400", description = "Not player's turn")
+    })
+    @ResponseStatus(HttpStatus.OK)
+    public Mono<HintResponse> hint(@PathVariable UUID id) {
+        return gameService.getHint(id);
+    }
+
     @PostMapping("/{id}/hit")
     @Operation(summary = "Player hits", description = "Player draws a card from the deck")
     @ApiResponses(value = {
@@ -69,15 +119,18 @@ public class GameController {
     }
 
     @PostMapping("/{id}/stand")
-    @Operation(summary = "Player stands", description = "Player ends their turn, crupier plays next")
+    @Operation(summary = "Player stands", description = "Player ends their turn, crupier plays next. "
+            + "With resolve=true the crupier plays its whole turn in the same request and the game "
+            + "comes back finished, with the crupier's draws in order in crupierDraws")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Turn ended successfully",
                     content = @Content(schema = @Schema(implementation = GameResponse.class))),
             @ApiResponse(responseCode = "404", description = "Game not found")
     })
     @ResponseStatus(HttpStatus.OK)
-    public Mono<GameResponse> stand(@PathVariable UUID id) {
-        return gameService.playerStand(id);
+    public Mono<GameResponse> stand(@PathVariable UUID id,
+                                    @RequestParam(defaultValue = "false") boolean resolve) {
+        return resolve ? gameService.playerStandAndResolve(id) : gameService.playerStand(id);
     }
 
     @PostMapping("/{gameId}/crupier-hit")
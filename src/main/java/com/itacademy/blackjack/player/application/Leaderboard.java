@@ -0,0 +1,334 @@
+package com.itacademy.blackjack.player.application;
+
+import com.itacademy.blackjack.player.application.dto.PlayerRankingResponse;
+import com.itacademy.blackjack.player.application.dto.RankingCursor;
+import com.itacademy.blackjack.player.domain.model.Player;
+import com.itacademy.blackjack.player.domain.repository.PlayerRepository;
+import com.itacademy.blackjack.shared.Uuids;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * In-memory player ranking, ordered by wins (descending) and then by player id.
+ * <p>
+ * It is seeded once from the database when the application is ready and then kept
+ * up to date by {@link PlayerService} on every stats change, so ranking reads never
+ * hit MySQL. Standings live in a treap whose nodes know their subtree size: the
+ * top {@code k} or a page after a cursor cost O(log n + k) and the rank of one
+ * player O(log n).
+ * Reads share a read lock, changes take the write lock.
+ */
+@Slf4j
+@Component
+public class Leaderboard {
+
+    private static final Comparator<Standing> ORDER = Comparator
+            .comparingInt(Standing::wins).reversed()
+            .thenComparing(Standing::id, Uuids::compare);
+
+    private final PlayerRepository playerRepository;
+
+    private final Map<UUID, Standing> byId = new ConcurrentHashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Node root;
+    private volatile boolean seeded;
+
+    public Leaderboard(PlayerRepository playerRepository) {
+        this.playerRepository = playerRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void seedFromDatabase() {
+        playerRepository.findAllByOrderByWinsDesc()
+                .collectList()
+                .subscribe(this::seed,
+                        e -> log.warn("Could not seed the leaderboard, ranking stays on the database", e));
+    }
+
+    /**
+     * Loads the initial standings. Players changed since the seed query started are
+     * already present with newer counters and are left as they are.
+     */
+    public void seed(List<Player> players) {
+        lock.writeLock().lock();
+        try {
+            for (Player player : players) {
+                Standing standing = Standing.of(player);
+                if (byId.putIfAbsent(standing.id(), standing) == null) {
+                    root = insert(root, new Node(standing));
+                }
+            }
+            seeded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Leaderboard seeded with {} players", players.size());
+    }
+
+    public boolean isSeeded() {
+        return seeded;
+    }
+
+    // Adds a player that is not ranked yet, keeping the known counters otherwise
+    public void add(Player player) {
+        if (byId.containsKey(player.getId())) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            Standing standing = Standing.of(player);
+            if (byId.putIfAbsent(standing.id(), standing) == null) {
+                root = insert(root, new Node(standing));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds the player or replaces its counters. A {@code null} name keeps the known one,
+     * since some stats updates only carry the counters.
+     */
+    public void update(Player player) {
+        lock.writeLock().lock();
+        try {
+            Standing previous = byId.get(player.getId());
+            String name = player.getName() != null || previous == null ? player.getName() : previous.name();
+            Standing standing = new Standing(player.getId(), name,
+                    player.getWins(), player.getLosses(), player.getPushes());
+            if (previous != null) {
+                root = remove(root, previous);
+            }
+            byId.put(standing.id(), standing);
+            root = insert(root, new Node(standing));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(UUID playerId) {
+        lock.writeLock().lock();
+        try {
+            Standing previous = byId.remove(playerId);
+            if (previous != null) {
+                root = remove(root, previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // First k players in ranking order
+    public List<Player> top(int k) {
+        lock.readLock().lock();
+        try {
+            List<Player> players = new ArrayList<>(Math.min(k, size(root)));
+            collect(root, null, k, standing -> players.add(standing.toPlayer()));
+            return players;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Up to {@code limit} players ranked right after {@code after}, or from the top
+     * when it is {@code null}. The cursor does not need to match a current player.
+     */
+    public List<PlayerRankingResponse> page(RankingCursor after, int limit) {
+        Standing key = after == null ? null : new Standing(after.playerId(), null, after.wins(), 0, 0);
+        lock.readLock().lock();
+        try {
+            int offset = key == null ? 0 : countUpTo(key);
+            List<PlayerRankingResponse> page = new ArrayList<>(Math.min(limit, size(root) - offset));
+            collect(root, key, limit, standing -> page.add(new PlayerRankingResponse(
+                    offset + page.size() + 1,
+                    standing.id().toString(),
+                    standing.name(),
+                    standing.wins(),
+                    standing.losses(),
+                    standing.pushes()
+            )));
+            return page;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 1-based position of the player, empty if it is not ranked
+    public OptionalInt rankOf(UUID playerId) {
+        lock.readLock().lock();
+        try {
+            Standing standing = byId.get(playerId);
+            if (standing == null) {
+                return OptionalInt.empty();
+            }
+            int rank = 0;
+            Node node = root;
+            while (node != null) {
+                int cmp = ORDER.compare(standing, node.standing);
+                if (cmp < 0) {
+                    node = node.left;
+                } else if (cmp > 0) {
+                    rank += size(node.left) + 1;
+                    node = node.right;
+                } else {
+                    return OptionalInt.of(rank + size(node.left) + 1);
+                }
+            }
+            return OptionalInt.empty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Optional<Player> find(UUID playerId) {
+        return Optional.ofNullable(byId.get(playerId)).map(Standing::toPlayer);
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    // ========== Treap ==========
+
+    // In-order walk over the standings after {@code after} (all when null), stopping after k
+    private static int collect(Node node, Standing after, int k, Consumer<Standing> out) {
+        if (node == null || k == 0) {
+            return k;
+        }
+        if (after != null && ORDER.compare(node.standing, after) <= 0) {
+            return collect(node.right, after, k, out);
+        }
+        k = collect(node.left, after, k, out);
+        if (k == 0) {
+            return 0;
+        }
+        out.accept(node.standing);
+        return collect(node.right, after, k - 1, out);
+    }
+
+    // Number of standings ordered at or before the key
+    private int countUpTo(Standing key) {
+        int count = 0;
+        Node node = root;
+        while (node != null) {
+            if (ORDER.compare(node.standing, key) <= 0) {
+                count += size(node.left) + 1;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return count;
+    }
+
+    private static Node insert(Node node, Node added) {
+        if (node == null) {
+            return added;
+        }
+        if (added.priority > node.priority) {
+            Node[] parts = split(node, added.standing);
+            added.left = parts[0];
+            added.right = parts[1];
+            return added.update();
+        }
+        if (ORDER.compare(added.standing, node.standing) < 0) {
+            node.left = insert(node.left, added);
+        } else {
+            node.right = insert(node.right, added);
+        }
+        return node.update();
+    }
+
+    private static Node remove(Node node, Standing standing) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = ORDER.compare(standing, node.standing);
+        if (cmp == 0) {
+            return merge(node.left, node.right);
+        }
+        if (cmp < 0) {
+            node.left = remove(node.left, standing);
+        } else {
+            node.right = remove(node.right, standing);
+        }
+        return node.update();
+    }
+
+    // Splits into nodes ordered before the key and the rest
+    private static Node[] split(Node node, Standing key) {
+        if (node == null) {
+            return new Node[2];
+        }
+        if (ORDER.compare(node.standing, key) < 0) {
+            Node[] parts = split(node.right, key);
+            node.right = parts[0];
+            parts[0] = node.update();
+            return parts;
+        }
+        Node[] parts = split(node.left, key);
+        node.left = parts[1];
+        parts[1] = node.update();
+        return parts;
+    }
+
+    private static Node merge(Node left, Node right) {
+        if (left == null) return right;
+        if (right == null) return left;
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            return left.update();
+        }
+        right.left = merge(left, right.left);
+        return right.update();
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static final class Node {
+        final Standing standing;
+        final int priority = ThreadLocalRandom.current().nextInt();
+        Node left;
+        Node right;
+        int size = 1;
+
+        Node(Standing standing) {
+            this.standing = standing;
+        }
+
+        Node update() {
+            size = size(left) + size(right) + 1;
+            return this;
+        }
+    }
+
+    private record Standing(UUID id, String name, int wins, int losses, int pushes) {
+
+        static Standing of(Player player) {
+            return new Standing(player.getId(), player.getName(),
+                    player.getWins(), player.getLosses(), player.getPushes());
+        }
+
+        Player toPlayer() {
+            return Player.fromDatabase(id, name, wins, losses, pushes);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.itacademy.blackjack.player.application;
 import com.itacademy.blackjack.game.domain.model.GameResult;
 import com.itacademy.blackjack.player.application.dto.PlayerRankingResponse;
 import com.itacademy.blackjack.player.application.dto.PlayerStatsResponse;
+import com.itacademy.blackjack.player.application.dto.RankingCursor;
 import com.itacademy.blackjack.player.domain.model.Player;
 import com.itacademy.blackjack.player.domain.repository.PlayerRepository;
 import com.itacademy.blackjack.player.infrastructure.persistence.r2dbc.PlayerMapper;
@@ -11,41 +12,50 @@ import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import com.itacademy.blackjack.game.application.dto.GameHistoryResponse;
+import com.itacademy.blackjack.game.application.dto.HistoryCursor;
+import com.itacademy.blackjack.game.infrastructure.persistence.mongo.document.GameDocument;
 import com.itacademy.blackjack.game.infrastructure.persistence.mongo.repository.GameRepository;
 
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.OptionalInt;
 import java.util.UUID;
 
 @Slf4j
 @Service
 public class PlayerService {
 
+    // Games listed in the stats; older ones are paged through the history endpoint
+    static final int RECENT_GAMES = 10;
+    private static final DateTimeFormatter PLAYED_AT =
+            DateTimeFormatter.ofPattern("MMM d, HH:mm").withZone(ZoneId.systemDefault());
+
     private final PlayerRepository playerRepository;
     private final PlayerMapper playerMapper;
     private final GameRepository gameRepository;
+    private final Leaderboard leaderboard;
 
-    public PlayerService(PlayerRepository playerRepository, PlayerMapper playerMapper, GameRepository gameRepository) {
+    public PlayerService(PlayerRepository playerRepository, PlayerMapper playerMapper, GameRepository gameRepository,
+                         Leaderboard leaderboard) {
         this.playerRepository = playerRepository;
         this.playerMapper = playerMapper;
         this.gameRepository = gameRepository;
+        this.leaderboard = leaderboard;
     }
 
     public Mono<Player> findOrCreatePlayer(String name) {
         log.debug("findOrCreatePlayer called with name: {}", name);
-        return playerRepository.findByName(name)
-                .switchIfEmpty(
-                        Mono.defer(() -> createPlayer(name))
-                );
+        return playerRepository.findOrCreateByName(Player.createNew(name))
+                .doOnNext(leaderboard::add);
     }
 
 
+    // Names are unique: creating a name that is already taken returns that player
     public Mono<Player> createPlayer(String name) {
         log.info("Creating new player with name: {}", name);
-        Player player = Player.createNew(name);
-        return playerRepository.save(player);
+        return findOrCreatePlayer(name);
     }
 
     public Mono<Player> findById(UUID playerId) {
@@ -60,49 +70,52 @@ public class PlayerService {
 
     public Mono<Player> updatePlayerStats(UUID playerId, GameResult result) {
         log.debug("updatePlayerStats called for playerId: {}, result: {}", playerId, result);
-        return playerRepository.findById(playerId)
-                .flatMap(player -> {
-                    player.applyGameResult(result);
-                    return playerRepository.updateStats(playerId, player.getWins(), player.getLosses(), player.getPushes());
-                });
+        return playerRepository.incrementResult(playerId, result)
+                .doOnNext(leaderboard::update);
+    }
+
+    // Takes back one game the player was credited for, e.g. when that game is deleted
+    public Mono<Player> revertPlayerStats(UUID playerId, GameResult result) {
+        log.debug("revertPlayerStats called for playerId: {}, result: {}", playerId, result);
+        return playerRepository.decrementResult(playerId, result)
+                .doOnNext(leaderboard::update);
     }
 
     public Mono<Void> deleteById(UUID playerId) {
         log.info("Deleting player with id: {}", playerId);
-        return playerRepository.deleteById(playerId);
-    }
-
-    public Flux<GameHistoryResponse> getPlayerGameHistory(UUID playerId) {
-        log.debug("getPlayerGameHistory called for playerId: {}", playerId);
-        return gameRepository.findDocumentsByPlayerId(playerId)
-                .filter(game -> game.getGameResult() != null &&
-                        game.getGameResult() != GameResult.NO_RESULTS_YET)
-                .map(game -> {
-                    // Format the date from Instant
-                    Instant dateInstant = game.getFinishedAt() != null ? game.getFinishedAt() : game.getCreatedAt();
-                    String dateStr = "N/A";
-                    if (dateInstant != null) {
-                        try {
-                            dateStr = dateInstant.atZone(ZoneId.systemDefault())
-                                    .format(DateTimeFormatter.ofPattern("MMM d, HH:mm"));
-                        } catch (Exception e) {
-                            dateStr = "Recent";
-                        }
-                    }
-                    return new GameHistoryResponse(
-                            game.getId(),
-                            dateStr,
-                            game.getGameResult().name(),
-                            game.getPlayerScore(),
-                            game.getCrupierScore()
-                    );
-                });
+        return playerRepository.deleteById(playerId)
+                .doOnSuccess(v -> leaderboard.remove(playerId));
+    }
+
+    /**
+     * One page of the player's finished games, newest first, starting right before
+     * {@code before} (from the latest game when it is {@code null}).
+     */
+    public Flux<GameHistoryResponse> getPlayerGameHistory(UUID playerId, int limit, HistoryCursor before) {
+        log.debug("getPlayerGameHistory called for playerId: {}, limit: {}, before: {}", playerId, limit, before);
+        return gameRepository.findHistoryPage(playerId,
+                        before == null ? null : before.finishedAt(),
+                        before == null ? null : before.gameId(),
+                        limit)
+                .map(this::toHistoryResponse);
+    }
+
+    private GameHistoryResponse toHistoryResponse(GameDocument game) {
+        Instant playedAt = game.getFinishedAt() != null ? game.getFinishedAt() : game.getCreatedAt();
+        return new GameHistoryResponse(
+                game.getId().toString(),
+                playedAt == null ? "N/A" : PLAYED_AT.format(playedAt),
+                game.getGameResult().name(),
+                game.getPlayerScore(),
+                game.getCrupierScore(),
+                game.getFinishedAt() == null ? null : new HistoryCursor(game.getFinishedAt(), game.getId()).toString()
+        );
     }
 
     public Mono<PlayerStatsResponse> getPlayerStats(UUID playerId) {
         log.debug("getPlayerStats called for playerId: {}", playerId);
         return findById(playerId)
-                .zipWith(getPlayerGameHistory(playerId).collectList())
+                .zipWith(getPlayerGameHistory(playerId, RECENT_GAMES, null).collectList())
                 .map(tuple -> {
                     Player player = tuple.getT1();
                     List<GameHistoryResponse> recentGames = tuple.getT2();
@@ -122,25 +135,62 @@ public class PlayerService {
     public Mono<Void> updateStatsOnly(UUID playerId, int wins, int losses, int pushes) {
         log.debug("updateStatsOnly called for playerId: {}, wins: {}, losses: {}, pushes: {}",
                 playerId, wins, losses, pushes);
-        return playerRepository.updateStats(playerId, wins, losses, pushes).then();
+        return playerRepository.updateStats(playerId, wins, losses, pushes)
+                .doOnNext(leaderboard::update)
+                .then();
     }
 
-    public Flux<PlayerRankingResponse> getPlayerRanking() {
-        log.debug("getPlayerRanking called");
+    /**
+     * One page of the ranking, starting right after {@code after} (from the top when
+     * it is {@code null}). Served from the leaderboard once seeded, otherwise with
+     * keyset queries on MySQL.
+     */
+    public Flux<PlayerRankingResponse> getPlayerRankingPage(int limit, RankingCursor after) {
+        log.debug("getPlayerRankingPage called with limit: {}, after: {}", limit, after);
+        if (leaderboard.isSeeded()) {
+            return Flux.defer(() -> Flux.fromIterable(leaderboard.page(after, limit)));
+        }
+        Mono<Long> offset = after == null
+                ? Mono.just(0L)
+                : playerRepository.countRankedUpTo(after.wins(), after.playerId());
+        return offset.flatMapMany(rankedBefore -> playerRepository
+                .findRankingPage(after == null ? 0 : after.wins(), after == null ? null : after.playerId(), limit)
+                .index()
+                .map(tuple -> toRankingResponse(rankedBefore + tuple.getT1() + 1, tuple.getT2())));
+    }
+
+    // Whole ranking straight from MySQL, read in fetch-size batches as the client consumes it
+    public Flux<PlayerRankingResponse> streamPlayerRanking() {
+        log.debug("streamPlayerRanking called");
         return playerRepository.findAllByOrderByWinsDesc()
-                .index() // Returns Tuple2<Long, Player> where T1 is index
-                .map(tuple -> {
-                    long rank = tuple.getT1() + 1; // Convert 0-based index to 1-based rank
-                    Player player = tuple.getT2();
-                    return new PlayerRankingResponse(
-                            (int) rank,
-                            player.getId().toString(),
-                            player.getName(),
-                            player.getWins(),
-                            player.getLosses(),
-                            player.getPushes()
-                    );
-                });
+                .index()
+                .map(tuple -> toRankingResponse(tuple.getT1() + 1, tuple.getT2()));
+    }
+
+    private PlayerRankingResponse toRankingResponse(long rank, Player player) {
+        return new PlayerRankingResponse(
+                (int) rank,
+                player.getId().toString(),
+                player.getName(),
+                player.getWins(),
+                player.getLosses(),
+                player.getPushes()
+        );
+    }
+
+    public Mono<PlayerRankingResponse> getPlayerRank(UUID playerId) {
+        log.debug("getPlayerRank called for playerId: {}", playerId);
+        return Mono.fromSupplier(() -> leaderboard.rankOf(playerId))
+                .filter(OptionalInt::isPresent)
+                .flatMap(rank -> Mono.justOrEmpty(leaderboard.find(playerId))
+                        .map(player -> new PlayerRankingResponse(
+                                rank.getAsInt(),
+                                player.getId().toString(),
+                                player.getName(),
+                                player.getWins(),
+                                player.getLosses(),
+                                player.getPushes()
+                        )));
     }
 
 }
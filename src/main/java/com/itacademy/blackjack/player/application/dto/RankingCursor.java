@@ -0,0 +1,29 @@
+package com.itacademy.blackjack.player.application.dto;
+
+import com.itacademy.blackjack.exception.InvalidRequestException;
+
+import java.util.UUID;
+
+/**
+ * Keyset position in the ranking: the wins and id of the last player of a page,
+ * written as {@code <wins>_<playerId>}. The next page starts right after it.
+ */
+public record RankingCursor(int wins, UUID playerId) {
+
+    public static RankingCursor parse(String value) {
+        int separator = value.indexOf('_');
+        try {
+            return new RankingCursor(
+                    Integer.parseInt(value.substring(0, separator)),
+                    UUID.fromString(value.substring(separator + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new InvalidRequestException("Invalid ranking cursor: " + value);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return wins + "_" + playerId;
+    }
+}
@@ -5,6 +5,7 @@ import com.itacademy.blackjack.game.domain.model.CardData;
 import com.itacademy.blackjack.game.domain.model.GameResult;
 import com.itacademy.blackjack.game.domain.model.Hand;
 import com.itacademy.blackjack.game.domain.model.PlayerStatus;
+import com.itacademy.blackjack.shared.Uuids;
 import lombok.Getter;
 
 import java.util.List;
@@ -112,7 +113,7 @@ public class Player {
         // Trust the name is already validated by the DTO
 
         return Player.builder()
-                .id(UUID.randomUUID())
+                .id(Uuids.v7())
                 .name(name)
                 .wins(0)
                 .losses(0)
@@ -1,5 +1,6 @@
 package com.itacademy.blackjack.player.domain.repository;
 
+import com.itacademy.blackjack.game.domain.model.GameResult;
 import com.itacademy.blackjack.player.domain.model.Player;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -11,7 +12,22 @@ public interface PlayerRepository {
     Mono<Void> deleteById(UUID id);
     Mono<Player> findByName(String name);
 
+    // Player stored under the candidate's name, inserting the candidate if there is none
+    Mono<Player> findOrCreateByName(Player candidate);
+
     Mono<Player> updateStats(UUID playerId, int wins, int losses, int pushes);
 
+    // Adds one game with the given result to the player's counters, in the database
+    Mono<Player> incrementResult(UUID playerId, GameResult result);
+
+    // Removes one game with the given result from the player's counters, in the database
+    Mono<Player> decrementResult(UUID playerId, GameResult result);
+
     Flux<Player> findAllByOrderByWinsDesc();
+
+    // Up to limit players ranked after (afterWins, afterId), from the top when afterId is null
+    Flux<Player> findRankingPage(int afterWins, UUID afterId, int limit);
+
+    // Players ranked at or before (wins, id) in wins-desc, id-asc order
+    Mono<Long> countRankedUpTo(int wins, UUID id);
 }
@@ -0,0 +1,309 @@
+package com.itacademy.blackjack.player.infrastructure.persistence.memory;
+
+import com.itacademy.blackjack.game.domain.model.GameResult;
+import com.itacademy.blackjack.player.domain.model.Player;
+import com.itacademy.blackjack.player.domain.repository.PlayerRepository;
+import com.itacademy.blackjack.player.infrastructure.persistence.r2dbc.PlayerRepositoryImpl;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Read-through cache of players in front of the MySQL repository.
+ * <p>
+ * {@link #findById} and {@link #findByName} are served from memory for
+ * {@code blackjack.player-cache.ttl} after a player was loaded or written. Concurrent
+ * misses for the same key share one query; the callers that join it are counted as
+ * {@code result=coalesced}, neither hits nor misses. Writes going through this repository
+ * replace the cached player with what the database returned, and deletes drop it.
+ * Once the cache grows past {@code max-size}, the least recently read tenth is evicted.
+ * <p>
+ * Only the stored fields (id, name and counters) are cached, and every read gets a
+ * new {@link Player}: games deal cards into the player they were started with.
+ * <p>
+ * A load that overlaps a write may have read the row before it. Its result is still
+ * returned, but it is only kept when no write happened meanwhile.
+ */
+@Primary
+@Repository
+public class PlayerCache implements PlayerRepository {
+
+    private static final String METRIC_PREFIX = "blackjack.players.cache";
+
+    private final PlayerRepositoryImpl players;
+    private final int maxSize;
+    private final long ttlNanos;
+
+    private final Map<UUID, Entry> byId = new ConcurrentHashMap<>();
+    // Name -> id of a player in byId; the name as requested, MySQL compares names case-insensitively
+    private final Map<String, UUID> idsByName = new ConcurrentHashMap<>();
+    // Loads by name in flight, so concurrent misses share one query
+    private final Map<String, Mono<Player>> nameLoads = new ConcurrentHashMap<>();
+    private final AtomicLong writes = new AtomicLong();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter coalesced;
+    private final Counter evictions;
+    private final Timer loadTime;
+
+    public PlayerCache(PlayerRepositoryImpl players,
+                       MeterRegistry meterRegistry,
+                       @Value("${blackjack.player-cache.max-size:10000}") int maxSize,
+                       @Value("${blackjack.player-cache.ttl:5m}") Duration ttl) {
+        this.players = players;
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+
+        this.hits = Counter.builder(METRIC_PREFIX + ".requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder(METRIC_PREFIX + ".requests").tag("result", "miss").register(meterRegistry);
+        this.coalesced = Counter.builder(METRIC_PREFIX + ".requests").tag("result", "coalesced").register(meterRegistry);
+        this.evictions = Counter.builder(METRIC_PREFIX + ".evictions").register(meterRegistry);
+        this.loadTime = Timer.builder(METRIC_PREFIX + ".load")
+                .description("Time to load a missing player from MySQL")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".size", byId, Map::size).register(meterRegistry);
+    }
+
+    // ========== Reads ==========
+
+    @Override
+    public Mono<Player> findById(UUID id) {
+        long now = System.nanoTime();
+        Entry cached = byId.get(id);
+        if (isFresh(cached, now)) {
+            return hit(cached, now);
+        }
+        long writesBefore = writes.get();
+        Entry loading = new Entry(now);
+        // Lazy: only subscribed if this entry wins the race below
+        loading.value = timed(players.findById(id))
+                .map(Snapshot::of)
+                .doOnSuccess(snapshot -> {
+                    if (snapshot == null || writes.get() != writesBefore) {
+                        byId.remove(id, loading);
+                    } else {
+                        loading.snapshot = snapshot;
+                        idsByName.put(snapshot.name(), id);
+                        evictIfFull();
+                    }
+                })
+                .doOnError(e -> byId.remove(id, loading))
+                .cache();
+        Entry entry = byId.compute(id, (key, current) -> isFresh(current, now) ? current : loading);
+        if (entry != loading) {
+            // Loaded or written meanwhile, or another miss is already loading it (coalesced)
+            return hit(entry, now);
+        }
+        misses.increment();
+        return loading.read();
+    }
+
+    @Override
+    public Mono<Player> findByName(String name) {
+        long now = System.nanoTime();
+        UUID id = idsByName.get(name);
+        Entry cached = id == null ? null : byId.get(id);
+        if (isFresh(cached, now)) {
+            return hit(cached, now);
+        }
+        Mono<Player> pending = nameLoads.get(name);
+        if (pending != null) {
+            coalesced.increment();
+            return pending;
+        }
+        long writesBefore = writes.get();
+        // Lazy: only subscribed if this load wins the race below
+        Mono<Player> load = timed(players.findByName(name))
+                .doOnNext(player -> {
+                    if (writes.get() == writesBefore) {
+                        store(player, name);
+                    }
+                })
+                .doFinally(signal -> nameLoads.remove(name))
+                .map(Snapshot::of)
+                .cache()
+                .map(Snapshot::toPlayer);
+        pending = nameLoads.putIfAbsent(name, load);
+        if (pending != null) {
+            coalesced.increment();
+            return pending;
+        }
+        misses.increment();
+        return load;
+    }
+
+    // ========== Writes ==========
+
+    @Override
+    public Mono<Player> save(Player player) {
+        return players.save(player).doOnNext(saved -> store(saved, null));
+    }
+
+    @Override
+    public Mono<Player> findOrCreateByName(Player candidate) {
+        return players.findOrCreateByName(candidate).doOnNext(player -> store(player, candidate.getName()));
+    }
+
+    @Override
+    public Mono<Player> updateStats(UUID playerId, int wins, int losses, int pushes) {
+        // The database only returns the counters here; keep the name known so far
+        return players.updateStats(playerId, wins, losses, pushes)
+                .doOnNext(updated -> {
+                    writes.incrementAndGet();
+                    Entry previous = byId.get(playerId);
+                    Snapshot known = previous == null ? null : previous.snapshot;
+                    if (known == null) {
+                        byId.remove(playerId);
+                        return;
+                    }
+                    store(Player.fromDatabase(playerId, known.name(), wins, losses, pushes), null);
+                });
+    }
+
+    @Override
+    public Mono<Player> incrementResult(UUID playerId, GameResult result) {
+        return players.incrementResult(playerId, result)
+                .doOnNext(player -> store(player, null))
+                .doOnSuccess(player -> {
+                    if (player == null) {
+                        invalidate(playerId);
+                    }
+                });
+    }
+
+    @Override
+    public Mono<Player> decrementResult(UUID playerId, GameResult result) {
+        return players.decrementResult(playerId, result)
+                .doOnNext(player -> store(player, null))
+                .doOnSuccess(player -> {
+                    if (player == null) {
+                        invalidate(playerId);
+                    }
+                });
+    }
+
+    @Override
+    public Mono<Void> deleteById(UUID id) {
+        return players.deleteById(id).doOnSuccess(v -> invalidate(id));
+    }
+
+    // ========== Pass-through ==========
+
+    @Override
+    public Flux<Player> findAllByOrderByWinsDesc() {
+        return players.findAllByOrderByWinsDesc();
+    }
+
+    @Override
+    public Flux<Player> findRankingPage(int afterWins, UUID afterId, int limit) {
+        return players.findRankingPage(afterWins, afterId, limit);
+    }
+
+    @Override
+    public Mono<Long> countRankedUpTo(int wins, UUID id) {
+        return players.countRankedUpTo(wins, id);
+    }
+
+    // ========== Internals ==========
+
+    // An entry without a snapshot is still loading: the caller joins that load
+    private Mono<Player> hit(Entry entry, long now) {
+        (entry.snapshot == null ? coalesced : hits).increment();
+        entry.lastAccess = now;
+        return entry.read();
+    }
+
+    private boolean isFresh(Entry entry, long now) {
+        return entry != null && now - entry.loadedAt < ttlNanos;
+    }
+
+    private Mono<Player> timed(Mono<Player> load) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return load.doFinally(signal -> loadTime.record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+        });
+    }
+
+    private void store(Player player, String requestedName) {
+        writes.incrementAndGet();
+        Entry entry = new Entry(System.nanoTime());
+        entry.snapshot = Snapshot.of(player);
+        entry.value = Mono.just(entry.snapshot);
+        byId.put(player.getId(), entry);
+        idsByName.put(player.getName(), player.getId());
+        if (requestedName != null) {
+            idsByName.put(requestedName, player.getId());
+        }
+        evictIfFull();
+    }
+
+    private void invalidate(UUID id) {
+        writes.incrementAndGet();
+        byId.remove(id);
+        idsByName.values().removeIf(id::equals);
+    }
+
+    private void evictIfFull() {
+        if (byId.size() <= maxSize) {
+            return;
+        }
+        byId.entrySet().stream()
+                .sorted(Comparator.comparingLong(e -> e.getValue().lastAccess))
+                .limit(byId.size() - maxSize + Math.max(1, maxSize / 10))
+                .forEach(e -> {
+                    if (byId.remove(e.getKey(), e.getValue())) {
+                        evictions.increment();
+                    }
+                });
+        idsByName.values().removeIf(id -> !byId.containsKey(id));
+    }
+
+    int size() {
+        return byId.size();
+    }
+
+    private static final class Entry {
+        final long loadedAt;
+        volatile long lastAccess;
+        // Shared by every reader of the entry; completes once for all of them
+        volatile Mono<Snapshot> value;
+        // Null while the load is in flight
+        volatile Snapshot snapshot;
+
+        Entry(long now) {
+            this.loadedAt = now;
+            this.lastAccess = now;
+        }
+
+        Mono<Player> read() {
+            return value.map(Snapshot::toPlayer);
+        }
+    }
+
+    private record Snapshot(UUID id, String name, int wins, int losses, int pushes) {
+
+        static Snapshot of(Player player) {
+            return new Snapshot(player.getId(), player.getName(),
+                    player.getWins(), player.getLosses(), player.getPushes());
+        }
+
+        Player toPlayer() {
+            return Player.fromDatabase(id, name, wins, losses, pushes);
+        }
+    }
+}
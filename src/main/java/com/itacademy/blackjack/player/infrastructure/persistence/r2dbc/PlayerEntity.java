@@ -3,9 +3,11 @@ package com.itacademy.blackjack.player.infrastructure.persistence.r2dbc;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.relational.core.mapping.Table;
 
+import java.util.UUID;
+
 @Table("players")
 public record PlayerEntity(
-        @Id String id,
+        @Id UUID id,
         String name,
         int wins,
         int losses,
@@ -1,18 +1,17 @@
 package com.itacademy.blackjack.player.infrastructure.persistence.r2dbc;
 
 import com.itacademy.blackjack.player.domain.model.Player;
+import com.itacademy.blackjack.shared.Uuids;
 import io.r2dbc.spi.Row;
 import org.springframework.stereotype.Component;
 
-import java.util.UUID;
-
 @Component
 public class PlayerMapper {
 
     // Player (domain) → PlayerEntity (MySQL)
     public PlayerEntity toEntity(Player player) {
         return new PlayerEntity(
-                player.getId().toString(),
+                player.getId(),
                 player.getName(),
                 player.getWins(),
                 player.getLosses(),
@@ -23,7 +22,7 @@ public class PlayerMapper {
     // PlayerEntity (MySQL) → Player (domain)
     public Player toDomain(PlayerEntity entity) {
         return Player.fromDatabase(
-                UUID.fromString(entity.id()),
+                entity.id(),
                 entity.name(),
                 entity.wins(),
                 entity.losses(),
@@ -33,7 +32,7 @@ public class PlayerMapper {
 
     public Player fromRow(Row row) {
         return Player.fromDatabase(
-                UUID.fromString(row.get("id", String.class)),
+                Uuids.fromBytes(row.get("id", byte[].class)),
                 row.get("name", String.class),
                 row.get("wins", Integer.class),
                 row.get("losses", Integer.class),
@@ -5,9 +5,11 @@ import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import reactor.core.publisher.Mono;
 
-public interface PlayerR2dbcRepository extends ReactiveCrudRepository<PlayerEntity, String> {
+import java.util.UUID;
+
+public interface PlayerR2dbcRepository extends ReactiveCrudRepository<PlayerEntity, UUID> {
     @Query("INSERT INTO players (id, name, wins, losses, pushes) VALUES (:id, :name, :wins, :losses, :pushes)")
-    Mono<Void> insert(String id, String name, int wins, int losses, int pushes);
+    Mono<Void> insert(byte[] id, String name, int wins, int losses, int pushes);
 
     Mono<Player> findByName(String name);
 }
\ No newline at end of file
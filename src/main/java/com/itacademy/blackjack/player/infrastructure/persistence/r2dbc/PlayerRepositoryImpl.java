@@ -1,10 +1,14 @@
 package com.itacademy.blackjack.player.infrastructure.persistence.r2dbc;
 
 
+import com.itacademy.blackjack.exception.PlayerConflictException;
+import com.itacademy.blackjack.game.domain.model.GameResult;
 import com.itacademy.blackjack.player.domain.model.Player;
 import com.itacademy.blackjack.player.domain.repository.PlayerRepository;
+import com.itacademy.blackjack.shared.Uuids;
 import io.r2dbc.spi.Readable;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
@@ -16,6 +20,9 @@ import static com.itacademy.blackjack.player.infrastructure.persistence.r2dbc.Pl
 @Repository
 public class PlayerRepositoryImpl implements PlayerRepository {
 
+    // Rows fetched per round trip when the whole ranking is streamed
+    static final int RANKING_FETCH_SIZE = 500;
+
     private final DatabaseClient client;
     private final PlayerMapper mapper;
 
@@ -24,15 +31,22 @@ public class PlayerRepositoryImpl implements PlayerRepository {
         this.mapper = mapper;
     }
 
+    /**
+     * Inserts a new player. Never overwrites a stored row: when the id or the name is
+     * taken the result fails with {@link PlayerConflictException}.
+     */
+    @Override
     public Mono<Player> save(Player player) {
         PlayerEntity entity = mapper.toEntity(player);
         return client.sql(INSERT_PLAYER)
-                .bind(0, entity.id())
+                .bind(0, Uuids.toBytes(entity.id()))
                 .bind(1, entity.name())
                 .bind(2, entity.wins())
                 .bind(3, entity.losses())
                 .bind(4, entity.pushes())
                 .then()
+                .onErrorMap(DataIntegrityViolationException.class, e -> new PlayerConflictException(
+                        "A player with id " + player.getId() + " or name " + player.getName() + " already exists"))
                 .thenReturn(player);
     }
 
@@ -40,14 +54,14 @@ public class PlayerRepositoryImpl implements PlayerRepository {
     @Override
     public Mono<Void> deleteById(UUID id) {
         return client.sql(DELETE_PLAYER_BY_ID)
-                .bind(0, id.toString())
+                .bind(0, Uuids.toBytes(id))
                 .then();
     }
 
     @Override
     public Mono<Player> findById(UUID playerId) {
         return client.sql(SELECT_PLAYER_BY_ID)
-                .bind(0, playerId.toString())
+                .bind(0, Uuids.toBytes(playerId))
                 .map((io.r2dbc.spi.Readable row) -> mapRowToPlayer(row))
                 .first();
     }
@@ -60,9 +74,25 @@ public class PlayerRepositoryImpl implements PlayerRepository {
                 .first();
     }
 
+    /**
+     * Names are unique, so this never creates a second row for a name, even for
+     * concurrent calls. An existing player costs one SELECT. MySQL cannot return the
+     * row from an INSERT, so a new name costs an insert-if-absent plus a SELECT of the
+     * canonical row, which may belong to a concurrent call that inserted first.
+     */
+    @Override
+    public Mono<Player> findOrCreateByName(Player candidate) {
+        return findByName(candidate.getName())
+                .switchIfEmpty(Mono.defer(() -> client.sql(INSERT_PLAYER_IF_NAME_ABSENT)
+                        .bind(0, Uuids.toBytes(candidate.getId()))
+                        .bind(1, candidate.getName())
+                        .then()
+                        .then(findByName(candidate.getName()))));
+    }
+
     private Player mapRowToPlayer(Readable row) {
         return Player.fromDatabase(
-                UUID.fromString(row.get("id", String.class)),
+                Uuids.fromBytes(row.get("id", byte[].class)),
                 row.get("name", String.class),
                 row.get("wins", Integer.class),
                 row.get("losses", Integer.class),
@@ -79,7 +109,7 @@ public class PlayerRepositoryImpl implements PlayerRepository {
                 .bind(0, wins)
                 .bind(1, losses)
                 .bind(2, pushes)
-                .bind(3, playerId.toString())
+                .bind(3, Uuids.toBytes(playerId))
                 .then()
                 .doOnSuccess(v -> log.debug("Player stats UPDATE executed successfully for playerId: {}", playerId))
                 .doOnError(e -> log.error("Player stats UPDATE failed for playerId: {}", playerId, e))
@@ -87,29 +117,84 @@ public class PlayerRepositoryImpl implements PlayerRepository {
 
     }
 
+    /**
+     * Increments the counter matching {@code result} with a single UPDATE, so
+     * concurrent results for the same player are never lost. MySQL has no
+     * {@code UPDATE ... RETURNING}, so the new counters are read back afterwards.
+     * Completes empty when the player does not exist.
+     */
+    @Override
+    public Mono<Player> incrementResult(UUID playerId, GameResult result) {
+        String sql = switch (result) {
+            case PLAYER_WINS, BLACKJACK -> INCREMENT_WINS;
+            case CRUPIER_WINS -> INCREMENT_LOSSES;
+            case PUSH -> INCREMENT_PUSHES;
+            case NO_RESULTS_YET -> null;
+        };
+        return updateCounter(sql, playerId);
+    }
+
+    /**
+     * Decrements the counter matching {@code result} with a single UPDATE that never
+     * goes below zero, and reads the counters back. Completes empty when the player
+     * does not exist or the counter is already zero.
+     */
+    @Override
+    public Mono<Player> decrementResult(UUID playerId, GameResult result) {
+        String sql = switch (result) {
+            case PLAYER_WINS, BLACKJACK -> DECREMENT_WINS;
+            case CRUPIER_WINS -> DECREMENT_LOSSES;
+            case PUSH -> DECREMENT_PUSHES;
+            case NO_RESULTS_YET -> null;
+        };
+        return updateCounter(sql, playerId);
+    }
+
+    private Mono<Player> updateCounter(String sql, UUID playerId) {
+        if (sql == null) {
+            return findById(playerId);
+        }
+        return client.sql(sql)
+                .bind(0, Uuids.toBytes(playerId))
+                .fetch()
+                .rowsUpdated()
+                .doOnError(e -> log.error("Player stats counter update failed for playerId: {}", playerId, e))
+                .flatMap(rows -> rows == 0 ? Mono.<Player>empty() : findById(playerId));
+    }
+
     @Override
     public Flux<Player> findAllByOrderByWinsDesc() {
 
         return client.sql(SELECT_ALL_PLAYERS_RANKING)
-                .map((io.r2dbc.spi.Readable row) -> {
-                    String idStr = row.get("id", String.class);
-                    String name = row.get("name", String.class);
-                    int wins = row.get("wins") != null ? row.get("wins", Integer.class) : 0;
-                    int losses = row.get("losses") != null ? row.get("losses", Integer.class) : 0;
-                    int pushes = row.get("pushes") != null ? row.get("pushes", Integer.class) : 0;
-
-                    UUID id;
-                    if (idStr != null && !idStr.isEmpty()) {
-                        id = UUID.fromString(idStr);
-                    } else {
-                        id = UUID.nameUUIDFromBytes(name.toLowerCase().getBytes());
-                    }
-
-                    return Player.fromDatabase(id, name, wins, losses, pushes);
-                })
+                .filter(statement -> statement.fetchSize(RANKING_FETCH_SIZE))
+                .map((io.r2dbc.spi.Readable row) -> mapRowToPlayer(row))
                 .all();
     }
 
+    @Override
+    public Flux<Player> findRankingPage(int afterWins, UUID afterId, int limit) {
+        if (afterId == null) {
+            return client.sql(SELECT_RANKING_FIRST_PAGE)
+                    .bind(0, limit)
+                    .map((io.r2dbc.spi.Readable row) -> mapRowToPlayer(row))
+                    .all();
+        }
+        return client.sql(SELECT_RANKING_PAGE_AFTER)
+                .bind(0, afterWins)
+                .bind(1, afterWins)
+                .bind(2, Uuids.toBytes(afterId))
+                .bind(3, limit)
+                .map((io.r2dbc.spi.Readable row) -> mapRowToPlayer(row))
+                .all();
+    }
 
+    @Override
+    public Mono<Long> countRankedUpTo(int wins, UUID id) {
+        return client.sql(COUNT_RANKED_UP_TO)
+                .bind(0, wins)
+                .bind(1, wins)
+                .bind(2, Uuids.toBytes(id))
+                .map((io.r2dbc.spi.Readable row) -> row.get(0, Long.class))
+                .one();
+    }
 }
-
@@ -0,0 +1,199 @@
+package com.itacademy.blackjack.player.infrastructure.persistence.r2dbc;
+
+import com.itacademy.blackjack.game.infrastructure.persistence.mongo.repository.GameRepository;
+import com.itacademy.blackjack.shared.Uuids;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+import static com.itacademy.blackjack.player.infrastructure.persistence.r2dbc.PlayerSqlConstants.*;
+
+/**
+ * Brings an existing players table up to what the queries expect, before anything reads it.
+ * <p>
+ * Tables created with text ids ({@code CHAR(36)}) get their ids converted to
+ * {@code BINARY(16)} with {@code UUID_TO_BIN}, the layout the repository binds. MySQL
+ * commits each ALTER on its own, so the conversion is a series of steps, each picked
+ * from the columns {@code information_schema} shows at that point: add {@code id_bin},
+ * copy the ids still missing there and drop the text {@code id}, then rename
+ * {@code id_bin} to {@code id}. A run that stopped halfway resumes at the step it reached.
+ * Players sharing a name, left by versions without the unique name index, are merged
+ * into the one with the most games: its counters become the sums, the games of the
+ * others are moved to it and their rows are deleted, in one transaction per name.
+ * Then the indexes the player queries rely on are created when missing. MySQL has no
+ * {@code CREATE INDEX IF NOT EXISTS}, so each index is looked up in
+ * {@code information_schema} first. A failed conversion, merge or index creation
+ * fails startup. schema.sql declares the same table for new databases.
+ */
+@Slf4j
+@Component
+public class PlayerSchemaInitializer {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(30);
+
+    // Index name -> DDL creating it
+    static final Map<String, String> INDEXES = Map.of(
+            "idx_players_wins_id", CREATE_INDEX_WINS_ID,
+            "uk_players_name", CREATE_UNIQUE_INDEX_NAME
+    );
+
+    // add id_bin, copy and drop id, rename; one more read to see the conversion finished
+    private static final int MAX_ID_MIGRATION_STEPS = 4;
+
+    private final DatabaseClient client;
+    private final TransactionalOperator transactions;
+    private final GameRepository gameRepository;
+
+    public PlayerSchemaInitializer(DatabaseClient client,
+                                   TransactionalOperator transactions,
+                                   GameRepository gameRepository) {
+        this.client = client;
+        this.transactions = transactions;
+        this.gameRepository = gameRepository;
+    }
+
+    // Blocking on purpose: the leaderboard seed and the first requests must see binary ids.
+    // Any failure stops the context, since the repository cannot read text ids and,
+    // without the unique name index, concurrent sign-ups can create duplicate players
+    @PostConstruct
+    void initialize() {
+        migrateIds()
+                .onErrorMap(e -> new IllegalStateException("Could not convert players.id to BINARY(16)", e))
+                .then(mergeDuplicateNames())
+                .then(ensureIndexes())
+                .block(STARTUP_TIMEOUT);
+    }
+
+    public Mono<Void> migrateIds() {
+        return migrateIds(0);
+    }
+
+    // Runs the step the current columns call for, then looks again, until id is BINARY(16)
+    private Mono<Void> migrateIds(int step) {
+        return columnTypes().flatMap(columns -> {
+            String id = columns.get("id");
+            String idBin = columns.get("id_bin");
+            if (columns.isEmpty() || (isBinary(id) && idBin == null)) {
+                return Mono.empty();
+            }
+            if (step == MAX_ID_MIGRATION_STEPS) {
+                return Mono.error(new IllegalStateException("players.id is still not BINARY(16) after "
+                        + step + " steps: id is " + id + ", id_bin is " + idBin));
+            }
+            Mono<Void> next;
+            String done;
+            if (isText(id) && idBin == null) {
+                next = client.sql(ADD_BINARY_ID_COLUMN).then();
+                done = "added players.id_bin";
+            } else if (isText(id) && isBinary(idBin)) {
+                // Copies whatever a stopped run left out; the drop is one ALTER with the primary key
+                next = client.sql(COPY_IDS_TO_BINARY).then().then(client.sql(DROP_TEXT_ID_COLUMN).then());
+                done = "copied players.id to id_bin and dropped the text id";
+            } else if (id == null && isBinary(idBin)) {
+                next = client.sql(RENAME_BINARY_ID_COLUMN).then();
+                done = "renamed players.id_bin to id";
+            } else {
+                return Mono.error(new IllegalStateException("Cannot convert players.id: id is " + id
+                        + " and id_bin is " + idBin + ", expected a text id or a BINARY(16) id_bin"));
+            }
+            // The wins/id index goes first, ensureIndexes() recreates it on the binary column
+            Mono<Void> run = dropIndexIfPresent("idx_players_wins_id", DROP_INDEX_WINS_ID).then(next);
+            return run
+                    .doOnSuccess(v -> log.info("players.id conversion: {}", done))
+                    .then(Mono.defer(() -> migrateIds(step + 1)));
+        });
+    }
+
+    private Mono<Map<String, String>> columnTypes() {
+        return client.sql(SELECT_PLAYERS_COLUMN_TYPES)
+                .map((io.r2dbc.spi.Readable row) -> Map.entry(
+                        row.get(0, String.class).toLowerCase(Locale.ROOT),
+                        row.get(1, String.class).toLowerCase(Locale.ROOT)))
+                .all()
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+    }
+
+    private static boolean isText(String type) {
+        return "char".equals(type) || "varchar".equals(type);
+    }
+
+    private static boolean isBinary(String type) {
+        return "binary".equals(type);
+    }
+
+    public Mono<Void> mergeDuplicateNames() {
+        return client.sql(SELECT_DUPLICATE_PLAYER_NAMES)
+                .map((io.r2dbc.spi.Readable row) -> row.get(0, String.class))
+                .all()
+                .concatMap(this::mergePlayersNamed)
+                .then();
+    }
+
+    // The games move first: running it again after a failure moves nothing twice
+    private Mono<Void> mergePlayersNamed(String name) {
+        return client.sql(SELECT_PLAYERS_BY_NAME_MOST_GAMES_FIRST)
+                .bind(0, name)
+                .map((io.r2dbc.spi.Readable row) -> new PlayerEntity(
+                        Uuids.fromBytes(row.get("id", byte[].class)),
+                        row.get("name", String.class),
+                        row.get("wins", Integer.class),
+                        row.get("losses", Integer.class),
+                        row.get("pushes", Integer.class)))
+                .all()
+                .collectList()
+                .filter(rows -> rows.size() > 1)
+                .flatMap(rows -> {
+                    PlayerEntity kept = rows.getFirst();
+                    List<PlayerEntity> merged = rows.subList(1, rows.size());
+                    List<UUID> mergedIds = merged.stream().map(PlayerEntity::id).toList();
+                    Mono<Void> rewrite = client.sql(UPDATE_PLAYER_STATS)
+                            .bind(0, rows.stream().mapToInt(PlayerEntity::wins).sum())
+                            .bind(1, rows.stream().mapToInt(PlayerEntity::losses).sum())
+                            .bind(2, rows.stream().mapToInt(PlayerEntity::pushes).sum())
+                            .bind(3, Uuids.toBytes(kept.id()))
+                            .then()
+                            .thenMany(Flux.fromIterable(mergedIds))
+                            .concatMap(id -> client.sql(DELETE_PLAYER_BY_ID).bind(0, Uuids.toBytes(id)).then())
+                            .then();
+                    return gameRepository.reassignPlayer(mergedIds, kept.id())
+                            .then(transactions.transactional(rewrite))
+                            .doOnSuccess(v -> log.info("Merged {} duplicate player(s) named '{}' into {}",
+                                    merged.size(), name, kept.id()));
+                });
+    }
+
+    public Mono<Void> ensureIndexes() {
+        return Flux.fromIterable(INDEXES.entrySet())
+                .concatMap(index -> indexExists(index.getKey())
+                        .filter(exists -> !exists)
+                        .flatMap(missing -> client.sql(index.getValue()).then()
+                                .doOnSuccess(v -> log.info("Created index {} on players", index.getKey())))
+                        .onErrorMap(e -> new IllegalStateException(
+                                "Could not create index " + index.getKey() + " on players", e)))
+                .then();
+    }
+
+    private Mono<Void> dropIndexIfPresent(String name, String ddl) {
+        return indexExists(name)
+                .filter(exists -> exists)
+                .flatMap(exists -> client.sql(ddl).then());
+    }
+
+    private Mono<Boolean> indexExists(String name) {
+        return client.sql(SELECT_PLAYERS_INDEX_EXISTS)
+                .bind(0, name)
+                .map((io.r2dbc.spi.Readable row) -> row.get(0, Long.class))
+                .one()
+                .map(count -> count > 0);
+    }
+}
@@ -8,23 +8,74 @@ package com.itacademy.blackjack.player.infrastructure.persistence.r2dbc;
 public final class PlayerSqlConstants {
 
     // INSERT
+    // Plain insert: a taken id or name fails with a duplicate key instead of overwriting a row
     public static final String INSERT_PLAYER =
-            "INSERT INTO players (id, name, wins, losses, pushes) VALUES (?, ?, ?, ?, ?) " +
-                    "ON DUPLICATE KEY UPDATE name = VALUES(name), wins = VALUES(wins), " +
-                    "losses = VALUES(losses), pushes = VALUES(pushes)";
+            "INSERT INTO players (id, name, wins, losses, pushes) VALUES (?, ?, ?, ?, ?)";
+    // No-op when the name is taken, the unique index keeps the first row
+    public static final String INSERT_PLAYER_IF_NAME_ABSENT =
+            "INSERT INTO players (id, name, wins, losses, pushes) VALUES (?, ?, 0, 0, 0) " +
+                    "ON DUPLICATE KEY UPDATE name = name";
     // SELECT
     public static final String SELECT_PLAYER_BY_ID =
             "SELECT * FROM players WHERE id = ?";
     public static final String SELECT_PLAYER_BY_NAME =
             "SELECT * FROM players WHERE name = ?";
     public static final String SELECT_ALL_PLAYERS_RANKING =
-            "SELECT name, MAX(id) as id, MAX(name) as name, " +
-                    "COALESCE(SUM(wins), 0) as wins, COALESCE(SUM(losses), 0) as losses, " +
-                    "COALESCE(SUM(pushes), 0) as pushes FROM players " +
-                    "GROUP BY name ORDER BY wins DESC";
+            "SELECT id, name, wins, losses, pushes FROM players ORDER BY wins DESC, id";
+    // Keyset pages over (wins DESC, id), served by idx_players_wins_id
+    public static final String SELECT_RANKING_FIRST_PAGE =
+            "SELECT id, name, wins, losses, pushes FROM players ORDER BY wins DESC, id LIMIT ?";
+    public static final String SELECT_RANKING_PAGE_AFTER =
+            "SELECT id, name, wins, losses, pushes FROM players " +
+                    "WHERE wins < ? OR (wins = ? AND id > ?) ORDER BY wins DESC, id LIMIT ?";
+    public static final String COUNT_RANKED_UP_TO =
+            "SELECT COUNT(*) FROM players WHERE wins > ? OR (wins = ? AND id <= ?)";
+    // INDEXES
+    public static final String SELECT_PLAYERS_INDEX_EXISTS =
+            "SELECT COUNT(*) FROM information_schema.statistics " +
+                    "WHERE table_schema = DATABASE() AND table_name = 'players' AND index_name = ?";
+    public static final String CREATE_INDEX_WINS_ID =
+            "CREATE INDEX idx_players_wins_id ON players (wins DESC, id)";
+    public static final String CREATE_UNIQUE_INDEX_NAME =
+            "CREATE UNIQUE INDEX uk_players_name ON players (name)";
+    // NAME MERGE: rows sharing a name, folded into the one with the most games
+    public static final String SELECT_DUPLICATE_PLAYER_NAMES =
+            "SELECT name FROM players GROUP BY name HAVING COUNT(*) > 1";
+    public static final String SELECT_PLAYERS_BY_NAME_MOST_GAMES_FIRST =
+            "SELECT id, name, wins, losses, pushes FROM players WHERE name = ? " +
+                    "ORDER BY wins + losses + pushes DESC, id";
+    // ID MIGRATION: CHAR(36) text ids -> BINARY(16)
+    // Every column of players with its type; no rows when the table does not exist yet
+    public static final String SELECT_PLAYERS_COLUMN_TYPES =
+            "SELECT column_name, data_type FROM information_schema.columns " +
+                    "WHERE table_schema = DATABASE() AND table_name = 'players'";
+    public static final String DROP_INDEX_WINS_ID =
+            "DROP INDEX idx_players_wins_id ON players";
+    public static final String ADD_BINARY_ID_COLUMN =
+            "ALTER TABLE players ADD COLUMN id_bin BINARY(16) NULL";
+    public static final String COPY_IDS_TO_BINARY =
+            "UPDATE players SET id_bin = UUID_TO_BIN(id) WHERE id_bin IS NULL";
+    public static final String DROP_TEXT_ID_COLUMN =
+            "ALTER TABLE players DROP PRIMARY KEY, DROP COLUMN id";
+    public static final String RENAME_BINARY_ID_COLUMN =
+            "ALTER TABLE players CHANGE COLUMN id_bin id BINARY(16) NOT NULL FIRST, ADD PRIMARY KEY (id)";
     // UPDATE
     public static final String UPDATE_PLAYER_STATS =
             "UPDATE players SET wins = ?, losses = ?, pushes = ? WHERE id = ?";
+    // Single-statement counters, safe under concurrent finished games
+    public static final String INCREMENT_WINS =
+            "UPDATE players SET wins = wins + 1 WHERE id = ?";
+    public static final String INCREMENT_LOSSES =
+            "UPDATE players SET losses = losses + 1 WHERE id = ?";
+    public static final String INCREMENT_PUSHES =
+            "UPDATE players SET pushes = pushes + 1 WHERE id = ?";
+    // Undo of one counted game; never below zero, even if the counters were repaired meanwhile
+    public static final String DECREMENT_WINS =
+            "UPDATE players SET wins = wins - 1 WHERE id = ? AND wins > 0";
+    public static final String DECREMENT_LOSSES =
+            "UPDATE players SET losses = losses - 1 WHERE id = ? AND losses > 0";
+    public static final String DECREMENT_PUSHES =
+            "UPDATE players SET pushes = pushes - 1 WHERE id = ? AND pushes > 0";
     // DELETE
     public static final String DELETE_PLAYER_BY_ID =
             "DELETE FROM players WHERE id = ?";
@@ -1,11 +1,15 @@
 package com.itacademy.blackjack.player.infrastructure.web;
 
+import com.itacademy.blackjack.game.application.dto.GameHistoryResponse;
+import com.itacademy.blackjack.game.application.dto.HistoryCursor;
 import com.itacademy.blackjack.player.application.PlayerService;
 import com.itacademy.blackjack.player.application.dto.CreatePlayerRequest;
 import com.itacademy.blackjack.player.application.dto.PlayerProfileResponse;
 import com.itacademy.blackjack.player.application.dto.PlayerRankingResponse;
 import com.itacademy.blackjack.player.application.dto.PlayerStatsResponse;
+import com.itacademy.blackjack.player.application.dto.RankingCursor;
 import com.itacademy.blackjack.player.domain.model.Player;
+import com.itacademy.blackjack.exception.InvalidRequestException;
 import com.itacademy.blackjack.game.domain.model.exception.ResourceNotFoundException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -15,6 +19,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -26,6 +31,9 @@ import java.util.UUID;
 @Tag(name = "Player Management", description = "APIs for managing Blackjack players")
 public class PlayerController {
 
+    private static final int MAX_RANKING_PAGE = 500;
+    private static final int MAX_HISTORY_PAGE = 100;
+
     private final PlayerService playerService;
 
     public PlayerController(PlayerService playerService) {
@@ -95,14 +103,63 @@ public class PlayerController {
         return playerService.getPlayerStats(playerId);
     }
 
+    @GetMapping("/{playerId}/history")
+    @Operation(summary = "Get player game history",
+            description = "Retrieves one page of the player's finished games, newest first. Pass the cursor " +
+                    "of the last entry as before=<cursor> to get older games")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "History retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = GameHistoryResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid limit or cursor")
+    })
+    @ResponseStatus(HttpStatus.OK)
+    public Flux<GameHistoryResponse> getPlayerGameHistory(@PathVariable UUID playerId,
+                                                          @RequestParam(defaultValue = "20") int limit,
+                                                          @RequestParam(required = false) String before) {
+        if (limit < 1 || limit > MAX_HISTORY_PAGE) {
+            throw new InvalidRequestException("limit must be between 1 and " + MAX_HISTORY_PAGE);
+        }
+        HistoryCursor cursor = before == null ? null : HistoryCursor.parse(before);
+        return playerService.getPlayerGameHistory(playerId, limit, cursor);
+    }
+
     @GetMapping("/ranking")
-    @Operation(summary = "Get player rankings", description = "Retrieves all players sorted by their win rate")
+    @Operation(summary = "Get player rankings",
+            description = "Retrieves one page of players sorted by wins. Pass the wins and playerId of the " +
+                    "last entry as after=<wins>_<playerId> to get the next page")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Ranking retrieved successfully",
-                    content = @Content(schema = @Schema(implementation = PlayerRankingResponse.class)))
+                    content = @Content(schema = @Schema(implementation = PlayerRankingResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid limit or cursor")
+    })
+    @ResponseStatus(HttpStatus.OK)
+    public Flux<PlayerRankingResponse> getPlayerRanking(@RequestParam(defaultValue = "50") int limit,
+                                                        @RequestParam(required = false) String after) {
+        if (limit < 1 || limit > MAX_RANKING_PAGE) {
+            throw new InvalidRequestException("limit must be between 1 and " + MAX_RANKING_PAGE);
+        }
+        RankingCursor cursor = after == null ? null : RankingCursor.parse(after);
+        return playerService.getPlayerRankingPage(limit, cursor);
+    }
+
+    @GetMapping(value = "/ranking", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream player rankings",
+            description = "Streams every player sorted by wins as newline-delimited JSON")
+    @ResponseStatus(HttpStatus.OK)
+    public Flux<PlayerRankingResponse> streamPlayerRanking() {
+        return playerService.streamPlayerRanking();
+    }
+
+    @GetMapping("/{playerId}/rank")
+    @Operation(summary = "Get player rank", description = "Retrieves the position of a player in the ranking")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Rank retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = PlayerRankingResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Player not ranked")
     })
     @ResponseStatus(HttpStatus.OK)
-    public Flux<PlayerRankingResponse> getPlayerRanking() {
-        return playerService.getPlayerRanking();
+    public Mono<PlayerRankingResponse> getPlayerRank(@PathVariable UUID playerId) {
+        return playerService.getPlayerRank(playerId)
+                .switchIfEmpty(Mono.error(new ResourceNotFoundException("Player not ranked: " + playerId)));
     }
 }
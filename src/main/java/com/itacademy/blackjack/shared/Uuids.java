@@ -0,0 +1,66 @@
+package com.itacademy.blackjack.shared;
+
+import java.nio.ByteBuffer;
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Time-ordered identifiers (UUID version 7, RFC 9562) and their 16-byte form.
+ * <p>
+ * The first 48 bits hold the Unix time in milliseconds and the next 12 bits a
+ * counter, so ids from this generator sort by creation time, also within one
+ * millisecond. New rows therefore land at the end of the primary key index
+ * instead of at random pages. The remaining 62 bits are random.
+ * <p>
+ * Ids are stored as 16 big-endian bytes, the same layout as MySQL's
+ * {@code UUID_TO_BIN(uuid)} and BSON binary subtype 4; {@link #compare} matches
+ * the byte order those stores use.
+ */
+public final class Uuids {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int COUNTER_BITS = 12;
+
+    // Unix millis << 12 | counter of the last id handed out
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private Uuids() {
+    }
+
+    public static UUID v7() {
+        long now = System.currentTimeMillis() << COUNTER_BITS;
+        // Same or earlier millisecond (clock step back): keep counting from the last id
+        long stamp = LAST.updateAndGet(last -> Math.max(last + 1, now));
+        long msb = ((stamp >>> COUNTER_BITS) << 16)
+                | 0x7000L
+                | (stamp & ((1L << COUNTER_BITS) - 1));
+        long lsb = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb);
+    }
+
+    public static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    public static UUID fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length != 16) {
+            throw new IllegalArgumentException("A UUID needs 16 bytes, got "
+                    + (bytes == null ? "null" : bytes.length));
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    /**
+     * Orders ids by their unsigned bytes, as the databases do.
+     * {@link UUID#compareTo} compares signed halves and disagrees for ids with the top bit set.
+     */
+    public static int compare(UUID a, UUID b) {
+        int cmp = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return cmp != 0 ? cmp : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+}
@@ -0,0 +1,127 @@
+package com.itacademy.blackjack.simulation.application;
+
+import com.itacademy.blackjack.game.domain.model.BasicStrategy;
+import com.itacademy.blackjack.game.domain.model.DealerOddsCalculator;
+import com.itacademy.blackjack.game.domain.model.PlayerEv;
+import com.itacademy.blackjack.game.domain.model.PlayerEvCalculator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Builds the {@link BasicStrategy} table from exact expected values for a fresh single
+ * deck, so it follows this game's rules, whatever published tables assume.
+ * <p>
+ * A cell hits when hitting is worth more than standing on average over every hand
+ * that reaches its total against its upcard: each two-card hand weighted by its chance
+ * of being dealt, or each three-card hand for totals no two cards make (hard 21, and
+ * soft 21 since two cards make a blackjack, which is never played). Each upcard is one
+ * task on a {@link ForkJoinPool}, with its own {@link PlayerEvCalculator} whose memos
+ * the cells of that upcard share.
+ */
+public final class BasicStrategyGenerator {
+
+    private static final int MEMO_CAPACITY = 1 << 17;
+
+    private BasicStrategyGenerator() {
+    }
+
+    public static BasicStrategy generate(int parallelism) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            List<Callable<boolean[][]>> tasks = new ArrayList<>();
+            for (int upcard = 1; upcard <= 10; upcard++) {
+                int value = upcard;
+                tasks.add(() -> decisions(value));
+            }
+            List<Future<boolean[][]>> results = pool.invokeAll(tasks);
+            boolean[][][] byUpcard = new boolean[11][][];
+            for (int upcard = 1; upcard <= 10; upcard++) {
+                byUpcard[upcard] = results.get(upcard - 1).get();
+            }
+            return BasicStrategy.tabulate((total, soft, upcard) -> byUpcard[upcard][soft ? 1 : 0][total]);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Basic strategy generation was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Basic strategy generation failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    // [soft][total] for one upcard
+    private static boolean[][] decisions(int upcard) {
+        PlayerEvCalculator calculator = new PlayerEvCalculator(MEMO_CAPACITY);
+        boolean[][] hit = new boolean[2][22];
+        for (int soft = 0; soft <= 1; soft++) {
+            for (int total = soft == 1 ? 12 : 4; total <= 21; total++) {
+                hit[soft][total] = hitAdvantage(calculator, total, soft == 1, upcard) > 0;
+            }
+        }
+        return hit;
+    }
+
+    /**
+     * Expected value of hitting minus standing on a total, over the hands that make it.
+     */
+    static double hitAdvantage(PlayerEvCalculator calculator, int total, boolean soft, int upcard) {
+        int[] unseen = DealerOddsCalculator.shoeCounts(1);
+        unseen[upcard]--;
+        Cell cell = new Cell(calculator, total, soft, upcard);
+        if (!(soft && total == 21)) {
+            cell.deal(2, 0, false, unseen, 1.0);
+        }
+        if (cell.weight == 0) {
+            cell.deal(3, 0, false, unseen, 1.0);
+        }
+        return cell.advantage / cell.weight;
+    }
+
+    private static final class Cell {
+        private final PlayerEvCalculator calculator;
+        private final int total;
+        private final boolean soft;
+        private final int upcard;
+        private double advantage;
+        private double weight;
+
+        Cell(PlayerEvCalculator calculator, int total, boolean soft, int upcard) {
+            this.calculator = calculator;
+            this.total = total;
+            this.soft = soft;
+            this.upcard = upcard;
+        }
+
+        // Every ordered deal of the given number of cards, with its probability
+        void deal(int cards, int hard, boolean hasAce, int[] unseen, double probability) {
+            if (cards == 0) {
+                boolean handSoft = hasAce && hard <= 11;
+                if ((handSoft ? hard + 10 : hard) == total && handSoft == soft) {
+                    PlayerEv ev = calculator.evaluate(hard, hasAce, upcard, unseen);
+                    advantage += probability * (ev.hit() - ev.stand());
+                    weight += probability;
+                }
+                return;
+            }
+            int remaining = 0;
+            for (int value = 1; value <= 10; value++) {
+                remaining += unseen[value];
+            }
+            for (int value = 1; value <= 10; value++) {
+                int next = hard + value;
+                if (unseen[value] == 0 || next > 21) {
+                    continue;
+                }
+                double drawn = probability * unseen[value] / remaining;
+                unseen[value]--;
+                deal(cards - 1, next, hasAce || value == 1, unseen, drawn);
+                unseen[value]++;
+            }
+        }
+    }
+}
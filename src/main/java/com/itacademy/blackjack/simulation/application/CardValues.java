@@ -0,0 +1,72 @@
+package com.itacademy.blackjack.simulation.application;
+
+import com.itacademy.blackjack.deck.model.CardRank;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Buffer of card values drawn from an infinite shoe, refilled in blocks so the
+ * samplers' inner loops only read an {@code int[]}.
+ */
+final class CardValues {
+
+    private static final CardRank[] RANKS = CardRank.values();
+    private static final int[] RANK_VALUES = new int[RANKS.length];
+
+    static {
+        for (CardRank rank : RANKS) {
+            RANK_VALUES[rank.ordinal()] = rank.getNumericValue();
+        }
+    }
+
+    final int[] buffer;
+    private final RandomGenerator random;
+    private int position;
+
+    CardValues(int size, RandomGenerator random) {
+        this.buffer = new int[size];
+        this.random = random;
+        this.position = size;
+    }
+
+    // The pattern repeated over the whole buffer, and again from the start once used up; for tests
+    CardValues(int[] pattern, int size) {
+        this.buffer = new int[size];
+        for (int i = 0; i < size; i++) {
+            buffer[i] = pattern[i % pattern.length];
+        }
+        this.random = null;
+        this.position = 0;
+    }
+
+    int next() {
+        if (position == buffer.length) {
+            refill();
+        }
+        return buffer[position++];
+    }
+
+    /**
+     * Reserves {@code count} consecutive values and returns the offset of the first one.
+     */
+    int take(int count) {
+        if (buffer.length - position < count) {
+            refill();
+        }
+        int offset = position;
+        position += count;
+        return offset;
+    }
+
+    private void refill() {
+        if (random != null) {
+            // Two ranks per nextLong(), each from 32 bits by multiply-shift (bias below 1e-8)
+            for (int i = 0; i < buffer.length; i += 2) {
+                long bits = random.nextLong();
+                buffer[i] = RANK_VALUES[(int) (((bits & 0xFFFFFFFFL) * RANK_VALUES.length) >>> 32)];
+                buffer[i + 1] = RANK_VALUES[(int) (((bits >>> 32) * RANK_VALUES.length) >>> 32)];
+            }
+        }
+        position = 0;
+    }
+}
@@ -0,0 +1,48 @@
+package com.itacademy.blackjack.simulation.application;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Samples many crupier hands from one upcard and counts how they end.
+ * <p>
+ * Hands follow {@code Hand} and {@code Crupier}: card values are
+ * {@code CardRank.getNumericValue()} (ace 1), one ace counts 11 while that doesn't
+ * bust, and the crupier hits up to 16. The hole card is drawn like any other card.
+ * Cards come from an infinite shoe (every draw is a fresh uniform rank), so the lanes
+ * of a batch never depend on each other.
+ * <p>
+ * {@link #create()} returns the {@code jdk.incubator.vector} implementation when the
+ * JVM was started with {@code --add-modules jdk.incubator.vector}, and the scalar one
+ * otherwise.
+ */
+public interface DealerSampler {
+
+    // outcomes[total - 17] for totals 17 to 21, outcomes[BUST] for busts
+    int BUST = 5;
+    int OUTCOMES = 6;
+
+    boolean VECTOR_AVAILABLE = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    static DealerSampler create() {
+        if (!VECTOR_AVAILABLE) {
+            return new ScalarDealerSampler();
+        }
+        // Looked up by name: the vector class is compiled in its own pass (see pom.xml), and a
+        // source reference here would pull it into the main one
+        try {
+            return (DealerSampler) Class.forName(DealerSampler.class.getPackageName() + ".VectorDealerSampler")
+                    .getDeclaredConstructor()
+                    .newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("jdk.incubator.vector is present but VectorDealerSampler is not", e);
+        }
+    }
+
+    /**
+     * Plays {@code hands} crupier hands starting from {@code upcardValue} (1 for an ace)
+     * and adds each final result to {@code outcomes}.
+     */
+    void sample(int upcardValue, int hands, RandomGenerator random, long[] outcomes);
+
+    String name();
+}
@@ -0,0 +1,135 @@
+package com.itacademy.blackjack.simulation.application;
+
+import com.itacademy.blackjack.deck.model.Deck;
+import com.itacademy.blackjack.game.domain.model.Game;
+import com.itacademy.blackjack.game.domain.model.GameResult;
+import com.itacademy.blackjack.game.domain.model.GameStatus;
+import com.itacademy.blackjack.player.domain.model.Player;
+import com.itacademy.blackjack.simulation.application.dto.SimulationRequest;
+import com.itacademy.blackjack.simulation.application.dto.SimulationResult;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Plays hands headlessly through the {@link Game} domain model, so the numbers follow
+ * the same rules as {@code /games}: a fresh single deck per hand, blackjack checked on
+ * the deal, the crupier hitting up to 16.
+ * <p>
+ * The hands are split between workers run on a {@link ForkJoinPool} of
+ * {@code blackjack.simulation.parallelism} threads (the number of cores by default),
+ * shared by all runs. Each worker owns an RNG stream split from the root seed and its
+ * own {@link Tally}; the tallies are only merged once every worker is done, so workers
+ * share nothing while playing.
+ */
+@Service
+public class MonteCarloSimulator {
+
+    // Simulated games are never stored, their ids are never looked at
+    private static final UUID SIMULATION_ID = new UUID(0L, 0L);
+
+    private final ForkJoinPool pool;
+
+    public MonteCarloSimulator(@Value("${blackjack.simulation.parallelism:0}") int parallelism) {
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    public int parallelism() {
+        return pool.getParallelism();
+    }
+
+    /**
+     * Blocks until every hand was played; call it off event-loop threads.
+     */
+    public SimulationResult run(SimulationRequest request) {
+        SimulationRequest settings = request.withDefaults(pool.getParallelism());
+        long hands = settings.hands();
+        int workers = (int) Math.min(settings.workers(), hands);
+
+        SplittableRandom root = new SplittableRandom(settings.seed());
+        List<Callable<Tally>> tasks = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            long share = hands / workers + (i < hands % workers ? 1 : 0);
+            SplittableRandom random = root.split();
+            tasks.add(() -> play(share, settings.standAt(), random));
+        }
+
+        long start = System.nanoTime();
+        Tally total = new Tally();
+        try {
+            for (Future<Tally> done : pool.invokeAll(tasks)) {
+                total.merge(done.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Simulation interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Simulation failed", e.getCause());
+        }
+        long elapsed = System.nanoTime() - start;
+
+        return SimulationResult.of(total.wins, total.blackjacks, total.losses, total.pushes,
+                workers, settings.seed(), elapsed);
+    }
+
+    static Tally play(long hands, int standAt, SplittableRandom random) {
+        Tally tally = new Tally();
+        Deck deck = new Deck(1, random);
+        for (long i = 0; i < hands; i++) {
+            deck.reset();
+            Game game = Game.builder()
+                    .id(SIMULATION_ID)
+                    .player(Player.fromDatabase(SIMULATION_ID, "simulation", 0, 0, 0))
+                    .deck(deck)
+                    .build();
+            game.startGame();
+            while (game.getGameStatus() == GameStatus.PLAYER_TURN && game.getPlayerScore() < standAt) {
+                game.playerHit();
+            }
+            if (game.getGameStatus() == GameStatus.PLAYER_TURN) {
+                game.playerStandAndResolve();
+            }
+            tally.add(game.getGameResult());
+        }
+        return tally;
+    }
+
+    // Per-worker counters, only touched by the worker's thread until merged
+    static final class Tally {
+        long wins;
+        long blackjacks;
+        long losses;
+        long pushes;
+
+        void add(GameResult result) {
+            switch (result) {
+                case PLAYER_WINS -> wins++;
+                case BLACKJACK -> blackjacks++;
+                case CRUPIER_WINS -> losses++;
+                case PUSH -> pushes++;
+                default -> throw new IllegalStateException("Hand ended without a result");
+            }
+        }
+
+        void merge(Tally other) {
+            wins += other.wins;
+            blackjacks += other.blackjacks;
+            losses += other.losses;
+            pushes += other.pushes;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.itacademy.blackjack.simulation.application;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * One crupier hand at a time on primitive ints: the fallback when the vector module
+ * is not available, and the reference the vector sampler is checked against.
+ */
+final class ScalarDealerSampler implements DealerSampler {
+
+    private static final int BUFFER = 4096;
+
+    @Override
+    public void sample(int upcardValue, int hands, RandomGenerator random, long[] outcomes) {
+        sample(upcardValue, hands, new CardValues(BUFFER, random), outcomes);
+    }
+
+    void sample(int upcardValue, int hands, CardValues cards, long[] outcomes) {
+        for (int i = 0; i < hands; i++) {
+            int hard = upcardValue;
+            boolean ace = upcardValue == 1;
+            int score = score(hard, ace);
+            while (score <= 16) {
+                int card = cards.next();
+                hard += card;
+                ace |= card == 1;
+                score = score(hard, ace);
+            }
+            outcomes[score > 21 ? BUST : score - 17]++;
+        }
+    }
+
+    private static int score(int hard, boolean ace) {
+        return ace && hard <= 11 ? hard + 10 : hard;
+    }
+
+    @Override
+    public String name() {
+        return "scalar";
+    }
+}
@@ -0,0 +1,90 @@
+package com.itacademy.blackjack.simulation.application;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Plays one crupier hand per lane of an {@link IntVector}: hard totals in one vector,
+ * the ace and playing flags as masks. Every step deals a card to each lane, counts
+ * the lanes that reached 17 or more, and starts a new hand on them while hands are
+ * left, so every card drawn is used.
+ * <p>
+ * Only instantiate through {@link DealerSampler#create()}, which checks that
+ * {@code jdk.incubator.vector} is present.
+ */
+final class VectorDealerSampler implements DealerSampler {
+
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+    private static final int LANES = SPECIES.length();
+    private static final int BUFFER = 4096;
+
+    @Override
+    public void sample(int upcardValue, int hands, RandomGenerator random, long[] outcomes) {
+        sample(upcardValue, hands, new CardValues(BUFFER, random), outcomes);
+    }
+
+    void sample(int upcardValue, int hands, CardValues cards, long[] outcomes) {
+        IntVector upcards = IntVector.broadcast(SPECIES, upcardValue);
+        VectorMask<Integer> upcardAce = SPECIES.maskAll(upcardValue == 1);
+
+        VectorMask<Integer> live = SPECIES.indexInRange(0, hands);
+        int started = live.trueCount();
+        IntVector hard = upcards;
+        VectorMask<Integer> ace = upcardAce;
+        long[] totals = new long[OUTCOMES];
+
+        // Every live lane is below 17 here: a new hand only holds the upcard
+        while (live.anyTrue()) {
+            IntVector card = IntVector.fromArray(SPECIES, cards.buffer, cards.take(LANES));
+            hard = hard.add(card, live);
+            ace = ace.or(card.compare(VectorOperators.EQ, 1));
+            IntVector score = score(hard, ace);
+
+            VectorMask<Integer> done = score.compare(VectorOperators.GE, 17).and(live);
+            if (!done.anyTrue()) {
+                continue;
+            }
+            totals[BUST] += score.compare(VectorOperators.GT, 21).and(done).trueCount();
+            for (int total = 17; total <= 21; total++) {
+                totals[total - 17] += score.compare(VectorOperators.EQ, total).and(done).trueCount();
+            }
+
+            // Finished lanes start the next hand right away, so no lane idles until the last ones
+            VectorMask<Integer> restart = firstLanes(done, hands - started);
+            started += restart.trueCount();
+            live = live.andNot(done).or(restart);
+            hard = hard.blend(upcards, restart);
+            ace = ace.andNot(restart).or(upcardAce.and(restart));
+        }
+        for (int i = 0; i < OUTCOMES; i++) {
+            outcomes[i] += totals[i];
+        }
+    }
+
+    // The first count set lanes of mask, or all of them
+    private static VectorMask<Integer> firstLanes(VectorMask<Integer> mask, int count) {
+        if (count >= LANES) {
+            return mask;
+        }
+        long bits = mask.toLong();
+        while (Long.bitCount(bits) > count) {
+            bits &= ~Long.highestOneBit(bits);
+        }
+        return VectorMask.fromLong(SPECIES, bits);
+    }
+
+    // Soft lanes (an ace and a hard total up to 11) count the ace as 11
+    private static IntVector score(IntVector hard, VectorMask<Integer> ace) {
+        VectorMask<Integer> soft = ace.and(hard.compare(VectorOperators.LE, 11));
+        return hard.add(10, soft);
+    }
+
+    @Override
+    public String name() {
+        return "vector (" + LANES + " lanes)";
+    }
+}
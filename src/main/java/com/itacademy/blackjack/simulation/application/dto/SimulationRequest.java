@@ -0,0 +1,38 @@
+package com.itacademy.blackjack.simulation.application.dto;
+
+import com.itacademy.blackjack.exception.InvalidRequestException;
+
+/**
+ * Parameters of a Monte Carlo run. Missing fields take the defaults of
+ * {@link #withDefaults(int)}.
+ *
+ * @param hands   hands to play
+ * @param standAt the player hits while below this total, like the crupier does below 17
+ * @param workers independent RNG streams and result tallies; the same seed and workers
+ *                give the same counts
+ * @param seed    root seed, random when missing
+ */
+public record SimulationRequest(Long hands, Integer standAt, Integer workers, Long seed) {
+
+    public static final long DEFAULT_HANDS = 1_000_000L;
+    public static final long MAX_HANDS = 100_000_000L;
+    public static final int DEFAULT_STAND_AT = 17;
+    public static final int MAX_WORKERS = 256;
+
+    public SimulationRequest withDefaults(int defaultWorkers) {
+        long resolvedHands = hands != null ? hands : DEFAULT_HANDS;
+        int resolvedStandAt = standAt != null ? standAt : DEFAULT_STAND_AT;
+        int resolvedWorkers = workers != null ? workers : defaultWorkers;
+        if (resolvedHands < 1 || resolvedHands > MAX_HANDS) {
+            throw new InvalidRequestException("hands must be between 1 and " + MAX_HANDS);
+        }
+        if (resolvedStandAt < 2 || resolvedStandAt > 22) {
+            throw new InvalidRequestException("standAt must be between 2 and 22");
+        }
+        if (resolvedWorkers < 1 || resolvedWorkers > MAX_WORKERS) {
+            throw new InvalidRequestException("workers must be between 1 and " + MAX_WORKERS);
+        }
+        return new SimulationRequest(resolvedHands, resolvedStandAt, resolvedWorkers,
+                seed != null ? seed : System.nanoTime());
+    }
+}
@@ -0,0 +1,41 @@
+package com.itacademy.blackjack.simulation.application.dto;
+
+/**
+ * Outcome of a Monte Carlo run. Rates are per hand played; {@code houseEdge} is the
+ * crupier's expected gain per unit bet, with blackjacks paid 3:2 and pushes returned.
+ */
+public record SimulationResult(
+        long hands,
+        long wins,
+        long blackjacks,
+        long losses,
+        long pushes,
+        double winRate,
+        double blackjackRate,
+        double lossRate,
+        double pushRate,
+        double houseEdge,
+        int workers,
+        long seed,
+        long elapsedMillis,
+        double handsPerSecond
+) {
+
+    public static SimulationResult of(long wins, long blackjacks, long losses, long pushes,
+                                      int workers, long seed, long elapsedNanos) {
+        long hands = wins + blackjacks + losses + pushes;
+        double perHand = 1.0 / hands;
+        return new SimulationResult(
+                hands, wins, blackjacks, losses, pushes,
+                wins * perHand,
+                blackjacks * perHand,
+                losses * perHand,
+                pushes * perHand,
+                (losses - wins - 1.5 * blackjacks) * perHand,
+                workers,
+                seed,
+                elapsedNanos / 1_000_000,
+                elapsedNanos == 0 ? 0.0 : hands * 1e9 / elapsedNanos
+        );
+    }
+}
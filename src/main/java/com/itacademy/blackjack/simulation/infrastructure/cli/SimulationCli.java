@@ -0,0 +1,177 @@
+package com.itacademy.blackjack.simulation.infrastructure.cli;
+
+import com.itacademy.blackjack.exception.InvalidRequestException;
+import com.itacademy.blackjack.game.domain.model.BasicStrategy;
+import com.itacademy.blackjack.simulation.application.BasicStrategyGenerator;
+import com.itacademy.blackjack.simulation.application.DealerSampler;
+import com.itacademy.blackjack.simulation.application.MonteCarloSimulator;
+import com.itacademy.blackjack.simulation.application.dto.SimulationRequest;
+import com.itacademy.blackjack.simulation.application.dto.SimulationResult;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggingSystem;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+/**
+ * Runs a simulation without starting the application or its databases.
+ * <p>
+ * Run with: ./mvnw -Psimulation compile exec:java -Dexec.args="--hands=10000000 --stand-at=17"
+ * <p>
+ * Options: {@code --hands}, {@code --stand-at}, {@code --workers}, {@code --seed}, as in
+ * {@link SimulationRequest}.
+ * <p>
+ * With {@code --dealer-upcard=<1..10>} only crupier hands are sampled, in batches on one
+ * core (see {@link DealerSampler}), and the distribution of their final totals is printed.
+ * The vector sampler needs the module in Maven's JVM:
+ * MAVEN_OPTS="--add-modules jdk.incubator.vector".
+ * <p>
+ * With {@code --basic-strategy=<file>} the {@link BasicStrategy} table is generated
+ * instead, printed and written to the file. To regenerate the shipped table:
+ * ./mvnw -Psimulation compile exec:java -Dexec.args="--basic-strategy=src/main/resources/basic-strategy.bin"
+ */
+public final class SimulationCli {
+
+    private SimulationCli() {
+    }
+
+    public static void main(String[] args) {
+        // Without Spring Boot's logging setup every domain debug line would be printed
+        LoggingSystem.get(SimulationCli.class.getClassLoader()).setLogLevel(null, LogLevel.WARN);
+
+        SimulationRequest request;
+        Integer dealerUpcard;
+        String basicStrategyFile;
+        try {
+            request = parse(args);
+            dealerUpcard = dealerUpcard(args);
+            basicStrategyFile = basicStrategyFile(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println("Usage: --hands=<n> --stand-at=<total> --workers=<n> --seed=<long> [--dealer-upcard=<1..10>]");
+            System.err.println("       --basic-strategy=<file> [--workers=<n>]");
+            System.exit(2);
+            return;
+        }
+        if (basicStrategyFile != null) {
+            writeBasicStrategy(basicStrategyFile, request);
+            return;
+        }
+        if (dealerUpcard != null) {
+            sampleDealer(dealerUpcard, request);
+            return;
+        }
+
+        MonteCarloSimulator simulator = new MonteCarloSimulator(0);
+        try {
+            print(simulator.run(request));
+        } catch (InvalidRequestException e) {
+            System.err.println(e.getMessage());
+            System.exit(2);
+        } finally {
+            simulator.shutdown();
+        }
+    }
+
+    static SimulationRequest parse(String[] args) {
+        Long hands = null;
+        Integer standAt = null;
+        Integer workers = null;
+        Long seed = null;
+        for (String arg : args) {
+            int equals = arg.indexOf('=');
+            if (!arg.startsWith("--") || equals < 0) {
+                throw new IllegalArgumentException("Unexpected argument: " + arg);
+            }
+            String value = arg.substring(equals + 1);
+            switch (arg.substring(2, equals)) {
+                case "hands" -> hands = Long.parseLong(value.replace("_", ""));
+                case "stand-at" -> standAt = Integer.parseInt(value);
+                case "workers" -> workers = Integer.parseInt(value);
+                case "seed" -> seed = Long.parseLong(value);
+                case "dealer-upcard", "basic-strategy" -> {
+                    // Read by dealerUpcard() and basicStrategyFile()
+                }
+                default -> throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+        return new SimulationRequest(hands, standAt, workers, seed);
+    }
+
+    static Integer dealerUpcard(String[] args) {
+        for (String arg : args) {
+            if (arg.startsWith("--dealer-upcard=")) {
+                int upcard = Integer.parseInt(arg.substring("--dealer-upcard=".length()));
+                if (upcard < 1 || upcard > 10) {
+                    throw new IllegalArgumentException("--dealer-upcard must be between 1 (ace) and 10");
+                }
+                return upcard;
+            }
+        }
+        return null;
+    }
+
+    static String basicStrategyFile(String[] args) {
+        for (String arg : args) {
+            if (arg.startsWith("--basic-strategy=")) {
+                String file = arg.substring("--basic-strategy=".length());
+                if (file.isBlank()) {
+                    throw new IllegalArgumentException("--basic-strategy needs a file to write");
+                }
+                return file;
+            }
+        }
+        return null;
+    }
+
+    private static void writeBasicStrategy(String file, SimulationRequest request) {
+        int workers = request.workers() != null ? request.workers() : Runtime.getRuntime().availableProcessors();
+        long start = System.nanoTime();
+        BasicStrategy strategy = BasicStrategyGenerator.generate(workers);
+        long elapsed = System.nanoTime() - start;
+
+        try (OutputStream out = Files.newOutputStream(Path.of(file))) {
+            strategy.write(out);
+        } catch (IOException e) {
+            System.err.println("Could not write " + file + ": " + e.getMessage());
+            System.exit(1);
+        }
+        System.out.print(strategy);
+        System.out.printf("written to     %s in %,d ms%n", file, elapsed / 1_000_000);
+    }
+
+    private static void sampleDealer(int upcard, SimulationRequest request) {
+        long hands = request.hands() != null ? request.hands() : SimulationRequest.DEFAULT_HANDS;
+        if (hands < 1 || hands > Integer.MAX_VALUE) {
+            System.err.println("--hands must be between 1 and " + Integer.MAX_VALUE + " with --dealer-upcard");
+            System.exit(2);
+        }
+        DealerSampler sampler = DealerSampler.create();
+        long[] outcomes = new long[DealerSampler.OUTCOMES];
+        SplittableRandom random = new SplittableRandom(request.seed() != null ? request.seed() : System.nanoTime());
+
+        long start = System.nanoTime();
+        sampler.sample(upcard, (int) hands, random, outcomes);
+        long elapsed = System.nanoTime() - start;
+
+        System.out.printf("crupier hands  %,d from upcard %d, %s sampler%n", hands, upcard, sampler.name());
+        for (int total = 17; total <= 21; total++) {
+            System.out.printf("%-14d %.4f%n", total, outcomes[total - 17] / (double) hands);
+        }
+        System.out.printf("bust           %.4f%n", outcomes[DealerSampler.BUST] / (double) hands);
+        System.out.printf("elapsed        %,d ms, %,.0f hands/s%n", elapsed / 1_000_000, hands * 1e9 / elapsed);
+    }
+
+    private static void print(SimulationResult result) {
+        System.out.printf("hands          %,d (%d workers, seed %d)%n", result.hands(), result.workers(), result.seed());
+        System.out.printf("wins           %.4f%n", result.winRate());
+        System.out.printf("blackjacks     %.4f%n", result.blackjackRate());
+        System.out.printf("losses         %.4f%n", result.lossRate());
+        System.out.printf("pushes         %.4f%n", result.pushRate());
+        System.out.printf("house edge     %.4f%n", result.houseEdge());
+        System.out.printf("elapsed        %,d ms, %,.0f hands/s%n", result.elapsedMillis(), result.handsPerSecond());
+    }
+}
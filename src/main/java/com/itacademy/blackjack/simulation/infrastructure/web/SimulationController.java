@@ -0,0 +1,47 @@
+package com.itacademy.blackjack.simulation.infrastructure.web;
+
+import com.itacademy.blackjack.simulation.application.MonteCarloSimulator;
+import com.itacademy.blackjack.simulation.application.dto.SimulationRequest;
+import com.itacademy.blackjack.simulation.application.dto.SimulationResult;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+@RestController
+@RequestMapping("/simulations")
+@Tag(name = "Simulations", description = "Headless Monte Carlo runs of the game rules")
+public class SimulationController {
+
+    private final MonteCarloSimulator simulator;
+
+    public SimulationController(MonteCarloSimulator simulator) {
+        this.simulator = simulator;
+    }
+
+    @PostMapping
+    @Operation(summary = "Run a simulation", description = "Plays the requested number of hands in parallel "
+            + "and returns win, loss, push and blackjack rates, the house edge and hands per second")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Simulation finished",
+                    content = @Content(schema = @Schema(implementation = SimulationResult.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid hands, standAt or workers")
+    })
+    @ResponseStatus(HttpStatus.OK)
+    public Mono<SimulationResult> simulate(@RequestBody(required = false) SimulationRequest request) {
+        SimulationRequest settings = request != null ? request : new SimulationRequest(null, null, null, null);
+        // The run blocks until every worker is done, keep it off the event loop
+        return Mono.fromCallable(() -> simulator.run(settings))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+}
@@ -1,10 +1,6 @@
 CREATE TABLE IF NOT EXISTS players
 (
-    id
-    CHAR
-(
-    36
-) PRIMARY KEY,
+    id BINARY(16) PRIMARY KEY,
     name VARCHAR
 (
     255
@@ -16,5 +12,7 @@ CREATE TABLE IF NOT EXISTS players
 ),
     wins INT DEFAULT 0,
     losses INT DEFAULT 0,
-    pushes INT DEFAULT 0
+    pushes INT DEFAULT 0,
+    UNIQUE KEY uk_players_name (name),
+    INDEX idx_players_wins_id (wins DESC, id)
     );
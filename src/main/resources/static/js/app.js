@@ -80,11 +80,12 @@ window.standFunction = async function() {
     }
     
     try {
-        const response = await fetch("/games/" + currentGameId + "/stand", { method: "POST" });
+        // The server plays the dealer's whole turn; its draws are replayed below
+        const response = await fetch("/games/" + currentGameId + "/stand?resolve=true", { method: "POST" });
         
         if (response.ok) {
             const game = await response.json();
-            updateGameDisplay(game);
+            replayCrupierDraws(game);
         } else if (response.status === 400) {
             const error = await response.json();
             document.getElementById("resultDisplay").innerHTML = 
@@ -445,6 +446,59 @@ function handleActiveGame(game, btnHit, btnStand, btnNewGame) {
 
 // ==================== Crupier (Dealer) AI ====================
 
+// Shows the dealer's draws from a resolved stand one by one, then the final game
+function replayCrupierDraws(game) {
+    const draws = game.crupierDraws || [];
+    let shown = game.crupierHand.length - draws.length;
+    
+    if (draws.length === 0) {
+        finishCrupierReplay(game);
+        return;
+    }
+    
+    document.getElementById("btnHit").disabled = true;
+    document.getElementById("btnStand").disabled = true;
+    document.getElementById("dealerIndicator").classList.remove("hidden");
+    showCrupierCards(game.crupierHand.slice(0, shown));
+    
+    function step() {
+        shown++;
+        showCrupierCards(game.crupierHand.slice(0, shown));
+        if (shown < game.crupierHand.length) {
+            crupierPlayTimeout = setTimeout(step, 800);
+        } else {
+            crupierPlayTimeout = setTimeout(function() { finishCrupierReplay(game); }, 800);
+        }
+    }
+    
+    crupierPlayTimeout = setTimeout(step, 800);
+}
+
+function finishCrupierReplay(game) {
+    updateGameDisplay(game);
+    if (game.status === "FINISHED" && game.result && game.result !== "NO_RESULTS_YET") {
+        loginOrCreate();
+    }
+}
+
+function showCrupierCards(cards) {
+    document.getElementById("dealerCards").innerHTML = cards.map(function(c) {
+        return createCardElement(c);
+    }).join("");
+    document.getElementById("dealerScore").textContent = handScore(cards);
+}
+
+// Aces are sent as 1; one of them counts 11 while that doesn't bust, like the server's Hand
+function handScore(cards) {
+    let hardTotal = 0;
+    let hasAce = false;
+    cards.forEach(function(c) {
+        hardTotal += c.value;
+        if (c.rank === "Ace") hasAce = true;
+    });
+    return hasAce && hardTotal <= 11 ? hardTotal + 10 : hardTotal;
+}
+
 function crupierPlayStep() {
     if (!currentGameId) return;
     if (window.crupierTurnStarted === false) return;
@@ -488,7 +542,7 @@ async function showRanking() {
     modal.classList.add("show");
     
     try {
-        const response = await fetch("/players/ranking");
+        const response = await fetch("/players/ranking?limit=50");
         if (response.ok) {
             const rankings = await response.json();
             console.log("Rankings loaded:", rankings);
@@ -1,7 +1,10 @@
 package com.itacademy.blackjack.config;
 
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
 import com.mongodb.reactivestreams.client.MongoClient;
 import com.mongodb.reactivestreams.client.MongoClients;
+import org.bson.UuidRepresentation;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Primary;
@@ -33,7 +36,11 @@ public class TestMongoConfig {
     @Bean
     @Primary
     public MongoClient mongoClient() {
-        return MongoClients.create(mongoDBContainer.getReplicaSetUrl("test_blackjack"));
+        // Same UUID encoding as MongoConfig applies to the auto-configured client
+        return MongoClients.create(MongoClientSettings.builder()
+                .applyConnectionString(new ConnectionString(mongoDBContainer.getReplicaSetUrl("test_blackjack")))
+                .uuidRepresentation(UuidRepresentation.STANDARD)
+                .build());
     }
 
     @Bean
@@ -0,0 +1,35 @@
+package com.itacademy.blackjack.deck.model;
+
+import com.itacademy.blackjack.game.domain.model.CardData;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CardTest {
+
+    @Test
+    void testOfReturnsCanonicalInstance() {
+        assertSame(Card.of(CardRank.ACE, Suit.SPADES), Card.of(CardRank.ACE, Suit.SPADES));
+        assertEquals(new Card(CardRank.ACE, Suit.SPADES), Card.of(CardRank.ACE, Suit.SPADES));
+    }
+
+    @Test
+    void testOrdinalRoundTrip() {
+        for (int ordinal = 0; ordinal < 52; ordinal++) {
+            assertEquals(ordinal, Card.ofOrdinal(ordinal).ordinal());
+        }
+    }
+
+    @Test
+    void testFromDataUsesCanonicalInstance() {
+        Card card = Card.fromData(new CardData("QUEEN", "HEARTS", 10));
+
+        assertSame(Card.of(CardRank.QUEEN, Suit.HEARTS), card);
+    }
+
+    @Test
+    void testParseUnknownNameThrows() {
+        assertThrows(IllegalArgumentException.class, () -> Card.parse("JOKER", "HEARTS"));
+        assertThrows(IllegalArgumentException.class, () -> Card.parse("ACE", null));
+    }
+}
@@ -0,0 +1,95 @@
+package com.itacademy.blackjack.deck.model;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Byte-array {@link Deck} against the previous {@code ArrayList<Card>} deck.
+ * <p>
+ * Run with: ./mvnw -Pbenchmark test-compile exec:exec -Djmh.include=DeckBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DeckBenchmark {
+
+    private Deck deck;
+    private ListDeck listDeck;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        deck = new Deck();
+        listDeck = new ListDeck();
+    }
+
+    // A new shuffled deck and the initial deal, as done for every new game
+    @Benchmark
+    public void newDeckAndDeal(Blackhole bh) {
+        Deck d = new Deck();
+        for (int i = 0; i < 4; i++) {
+            bh.consume(d.draw());
+        }
+    }
+
+    @Benchmark
+    public void newListDeckAndDeal(Blackhole bh) {
+        ListDeck d = new ListDeck();
+        for (int i = 0; i < 4; i++) {
+            bh.consume(d.draw());
+        }
+    }
+
+    // Reset, shuffle and draw the whole shoe
+    @Benchmark
+    public void resetAndDrawAll(Blackhole bh) {
+        deck.reset();
+        while (!deck.isEmpty()) {
+            bh.consume(deck.draw());
+        }
+    }
+
+    @Benchmark
+    public void resetAndDrawAllListDeck(Blackhole bh) {
+        listDeck.reset();
+        while (!listDeck.isEmpty()) {
+            bh.consume(listDeck.draw());
+        }
+    }
+
+    /**
+     * The list-based deck as it was before the byte-array implementation.
+     */
+    static final class ListDeck {
+        private final List<Card> cards = new ArrayList<>();
+
+        ListDeck() {
+            reset();
+        }
+
+        void reset() {
+            cards.clear();
+            for (Suit suit : Suit.values()) {
+                for (CardRank cardRank : CardRank.values()) {
+                    cards.add(new Card(cardRank, suit));
+                }
+            }
+            Collections.shuffle(cards);
+        }
+
+        Card draw() {
+            return cards.removeLast();
+        }
+
+        boolean isEmpty() {
+            return cards.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.itacademy.blackjack.deck.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeckTest {
+
+    @Test
+    void testNewDeckHoldsEveryCardOnce() {
+        Deck deck = new Deck();
+
+        Set<Card> drawn = new HashSet<>();
+        while (!deck.isEmpty()) {
+            drawn.add(deck.draw());
+        }
+
+        assertEquals(52, drawn.size());
+        assertThrows(NoSuchElementException.class, deck::draw);
+    }
+
+    @Test
+    void testMultiDeckShoeHoldsEachCardPerDeck() {
+        Deck shoe = new Deck(6);
+
+        assertEquals(312, shoe.size());
+        long aceOfSpades = shoe.getCardsSnapshot().stream()
+                .filter(c -> c.equals(new Card(CardRank.ACE, Suit.SPADES)))
+                .count();
+        assertEquals(6, aceOfSpades);
+    }
+
+    @Test
+    void testResetRefillsTheShoe() {
+        Deck deck = new Deck(new Random(42));
+        deck.draw();
+        deck.draw();
+
+        deck.reset();
+
+        assertEquals(52, deck.size());
+    }
+
+    @Test
+    void testShoeStateRoundTripKeepsDrawOrder() {
+        Deck deck = new Deck();
+        deck.draw();
+        List<Card> remaining = deck.getCardsSnapshot();
+
+        Deck restored = Deck.fromShoeState(deck.toShoeState());
+
+        assertEquals(remaining, restored.getCardsSnapshot());
+        assertEquals(remaining.getFirst(), restored.draw());
+    }
+
+    @Test
+    void testResetAfterRestoreRefillsTheWholeShoe() {
+        Deck shoe = new Deck(6, new Random(42));
+        for (int i = 0; i < 100; i++) {
+            shoe.draw();
+        }
+
+        Deck restored = Deck.fromShoeState(shoe.toShoeState());
+        assertEquals(212, restored.size());
+        restored.reset();
+
+        assertEquals(312, restored.size());
+        long aceOfSpades = restored.getCardsSnapshot().stream()
+                .filter(c -> c.equals(new Card(CardRank.ACE, Suit.SPADES)))
+                .count();
+        assertEquals(6, aceOfSpades);
+    }
+
+    @Test
+    void testLegacyShoeStateRestoresAsOneDeck() {
+        Deck deck = new Deck(new Random(42));
+        deck.draw();
+        byte[] state = deck.toShoeState();
+        byte[] legacy = Arrays.copyOfRange(state, 1, state.length);
+
+        Deck restored = Deck.fromShoeState(legacy);
+        assertEquals(deck.getCardsSnapshot(), restored.getCardsSnapshot());
+        restored.reset();
+
+        assertEquals(52, new HashSet<>(restored.getCardsSnapshot()).size());
+    }
+
+    @Test
+    void testCountValuesCountsOnlyTheRemainingCards() {
+        Deck deck = new Deck(2, new Random(42));
+        int drawnValue = deck.draw().getNumericValue();
+
+        int[] counts = new int[11];
+        deck.countValues(counts);
+
+        assertEquals(103, Arrays.stream(counts).sum());
+        assertEquals(drawnValue == 10 ? 31 : 32, counts[10]);
+        assertEquals(0, counts[0]);
+    }
+}
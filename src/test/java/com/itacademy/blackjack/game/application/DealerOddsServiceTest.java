@@ -0,0 +1,117 @@
+package com.itacademy.blackjack.game.application;
+
+import com.itacademy.blackjack.deck.model.Deck;
+import com.itacademy.blackjack.game.application.dto.DealerOddsResponse;
+import com.itacademy.blackjack.game.domain.model.BasicStrategy;
+import com.itacademy.blackjack.game.domain.model.Crupier;
+import com.itacademy.blackjack.game.domain.model.DealerOdds;
+import com.itacademy.blackjack.game.domain.model.DealerOddsCalculator;
+import com.itacademy.blackjack.game.domain.model.Game;
+import com.itacademy.blackjack.game.domain.model.GameResult;
+import com.itacademy.blackjack.game.domain.model.GameStatus;
+import com.itacademy.blackjack.game.infrastructure.persistence.mongo.repository.GameRepository;
+import com.itacademy.blackjack.player.application.PlayerService;
+import com.itacademy.blackjack.player.domain.model.Player;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DealerOddsServiceTest {
+
+    @Mock
+    private PlayerService playerService;
+
+    @Mock
+    private GameRepository gameRepository;
+
+    @Mock
+    private HintService hintService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private DealerOddsService dealerOdds;
+    private GameService gameService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        dealerOdds = new DealerOddsService(meterRegistry, 1 << 12);
+        dealerOdds.precomputeOpenings();
+        gameService = new GameService(playerService, gameRepository,
+                new GameEventHub(meterRegistry, 32, Duration.ofMinutes(10)),
+                dealerOdds, hintService, BasicStrategy.load());
+    }
+
+    private Game dealtGame(long seed) {
+        Game game = Game.builder()
+                .id(UUID.randomUUID())
+                .gameStatus(GameStatus.CREATED)
+                .gameResult(GameResult.NO_RESULTS_YET)
+                .deck(new Deck(new Random(seed)))
+                .player(Player.createNew("Odds Player"))
+                .crupier(new Crupier())
+                .build();
+        game.startGame();
+        when(gameRepository.findById(game.getId())).thenReturn(Mono.just(game));
+        return game;
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("blackjack.odds.requests").tag("result", result).counter().count();
+    }
+
+    @Test
+    void getDealerOdds_freshlyDealtGame_isServedFromTheOpeningTable() {
+        Game game = dealtGame(42);
+        int upcard = game.getCrupier().getHand().getCard(0).getNumericValue();
+        int first = game.getPlayer().getHand().getCard(0).getNumericValue();
+        int second = game.getPlayer().getHand().getCard(1).getNumericValue();
+
+        DealerOddsResponse response = gameService.getDealerOdds(game.getId()).block();
+
+        assertEquals(49, response.unseenCards());
+        assertSame(dealerOdds.opening(upcard, first, second), response.odds());
+        assertEquals(1.0, requests("table"));
+        assertEquals(0.0, requests("computed"));
+    }
+
+    @Test
+    void fromUpcard_openingTableMatchesTheCalculator() {
+        int[] unseen = DealerOddsCalculator.shoeCounts(1);
+        unseen[6]--;
+        unseen[10]--;
+        unseen[1]--;
+
+        DealerOdds computed = new DealerOddsCalculator(1 << 12).fromUpcard(6, unseen);
+
+        assertEquals(computed, dealerOdds.fromUpcard(6, unseen));
+        assertSame(dealerOdds.opening(6, 1, 10), dealerOdds.fromUpcard(6, unseen));
+    }
+
+    @Test
+    void fromUpcard_afterThePlayerDraws_isComputed() {
+        int[] unseen = DealerOddsCalculator.shoeCounts(1);
+        unseen[6]--;
+        unseen[10]--;
+        unseen[2]--;
+        unseen[3]--;
+
+        DealerOdds odds = dealerOdds.fromUpcard(6, unseen);
+
+        assertEquals(new DealerOddsCalculator(1 << 12).fromUpcard(6, unseen), odds);
+        assertEquals(0.0, requests("table"));
+        assertEquals(1.0, requests("computed"));
+    }
+}
@@ -0,0 +1,99 @@
+package com.itacademy.blackjack.game.application;
+
+import com.itacademy.blackjack.game.application.dto.GameEvent;
+import com.itacademy.blackjack.game.domain.model.GameResult;
+import com.itacademy.blackjack.game.domain.model.GameStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class GameEventHubTest {
+
+    private GameEventHub hub;
+
+    private final UUID gameId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        hub = new GameEventHub(new SimpleMeterRegistry(), 4, Duration.ofMinutes(10));
+    }
+
+    private GameEvent status(GameStatus status) {
+        return new GameEvent.StatusChanged(gameId, status);
+    }
+
+    @Test
+    void events_replaysWhatWasPublishedBeforeSubscribing() {
+        hub.publish(gameId, List.of(status(GameStatus.PLAYER_TURN)));
+
+        StepVerifier.create(hub.events(gameId))
+                .expectNext(status(GameStatus.PLAYER_TURN))
+                .then(() -> hub.publish(gameId, List.of(status(GameStatus.CRUPIER_TURN))))
+                .expectNext(status(GameStatus.CRUPIER_TURN))
+                .thenCancel()
+                .verify(Duration.ofSeconds(1));
+    }
+
+    @Test
+    void events_onlyReplaysTheBufferedTail() {
+        List<GameEvent> events = IntStream.range(0, 6)
+                .mapToObj(i -> status(i % 2 == 0 ? GameStatus.PLAYER_TURN : GameStatus.CRUPIER_TURN))
+                .toList();
+        hub.publish(gameId, events);
+
+        StepVerifier.create(hub.events(gameId))
+                .expectNextSequence(events.subList(2, 6))
+                .thenCancel()
+                .verify(Duration.ofSeconds(1));
+    }
+
+    @Test
+    void gameFinished_completesTheStreamAndLeavesATombstone() {
+        GameEvent finished = new GameEvent.GameFinished(gameId, GameResult.PUSH, 18, 18);
+
+        StepVerifier.create(hub.events(gameId))
+                .then(() -> hub.publish(gameId, List.of(status(GameStatus.FINISHED), finished)))
+                .expectNext(status(GameStatus.FINISHED), finished)
+                .expectComplete()
+                .verify(Duration.ofSeconds(1));
+
+        assertEquals(1, hub.size());
+        hub.close(gameId);
+        assertEquals(0, hub.size());
+    }
+
+    @Test
+    void events_afterTheGameFinished_getsOnlyTheFinishedEvent() {
+        // The game was read as live, then its last action closed the channel before the subscription
+        hub.publish(gameId, List.of(status(GameStatus.PLAYER_TURN)));
+        GameEvent finished = new GameEvent.GameFinished(gameId, GameResult.PLAYER_WINS, 21, 19);
+        hub.publish(gameId, List.of(status(GameStatus.FINISHED), finished));
+
+        StepVerifier.create(hub.events(gameId))
+                .expectNext(finished)
+                .expectComplete()
+                .verify(Duration.ofSeconds(1));
+    }
+
+    @Test
+    void closeIdle_completesAbandonedGames() {
+        GameEventHub shortLived = new GameEventHub(new SimpleMeterRegistry(), 4, Duration.ZERO);
+        shortLived.publish(gameId, List.of(status(GameStatus.PLAYER_TURN)));
+
+        StepVerifier.create(shortLived.events(gameId))
+                .expectNext(status(GameStatus.PLAYER_TURN))
+                .then(shortLived::closeIdle)
+                .expectComplete()
+                .verify(Duration.ofSeconds(1));
+
+        assertEquals(0, shortLived.size());
+    }
+}
@@ -0,0 +1,71 @@
+package com.itacademy.blackjack.game.application;
+
+import com.itacademy.blackjack.game.domain.model.DealerOddsCalculator;
+import com.itacademy.blackjack.game.domain.model.PlayerEv;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class HintServiceTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private HintService hints;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        hints = new HintService(meterRegistry, 2, 1 << 12);
+    }
+
+    // A fresh deck without a ten, a six and the upcard
+    private static int[] unseen(int upcard) {
+        int[] counts = DealerOddsCalculator.shoeCounts(1);
+        counts[10]--;
+        counts[6]--;
+        counts[upcard]--;
+        return counts;
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("blackjack.hints.cache.requests").tag("result", result).counter().count();
+    }
+
+    @Test
+    void evaluate_answersTheSameSituationFromTheCache() {
+        PlayerEv first = hints.evaluate(16, false, 10, unseen(10)).block();
+        PlayerEv second = hints.evaluate(16, false, 10, unseen(10)).block();
+
+        assertSame(first, second);
+        assertEquals(1.0, requests("hit"));
+        assertEquals(1.0, requests("miss"));
+    }
+
+    @Test
+    void evaluate_evictsTheLeastRecentlyUsedSituation() {
+        PlayerEv againstTen = hints.evaluate(16, false, 10, unseen(10)).block();
+        hints.evaluate(16, false, 9, unseen(9)).block();
+        hints.evaluate(16, false, 10, unseen(10)).block();
+        hints.evaluate(16, false, 8, unseen(8)).block();   // evicts the nine
+
+        assertEquals(2, hints.size());
+        assertSame(againstTen, hints.evaluate(16, false, 10, unseen(10)).block());
+        hints.evaluate(16, false, 9, unseen(9)).block();
+        assertEquals(4.0, requests("miss"));
+    }
+
+    @Test
+    void evaluate_keysOnTheUnseenCards() {
+        int[] fewerTens = unseen(10);
+        fewerTens[10] -= 4;
+
+        PlayerEv fresh = hints.evaluate(16, false, 10, unseen(10)).block();
+        PlayerEv counted = hints.evaluate(16, false, 10, fewerTens).block();
+
+        assertNotSame(fresh, counted);
+        assertEquals(2.0, requests("miss"));
+    }
+}
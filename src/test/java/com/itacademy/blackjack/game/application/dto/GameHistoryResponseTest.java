@@ -13,7 +13,8 @@ class GameHistoryResponseTest {
                 "2024-01-15T10:30:00Z",
                 "PLAYER_WINS",
                 21,
-                18
+                18,
+                null
         );
 
         // Then
@@ -27,10 +28,10 @@ class GameHistoryResponseTest {
     @Test
     void testGameHistoryResponseAllResults() {
         // Test all possible game results
-        GameHistoryResponse win = new GameHistoryResponse("1", "2024-01-15", "PLAYER_WINS", 21, 19);
-        GameHistoryResponse loss = new GameHistoryResponse("2", "2024-01-15", "CRUPIER_WINS", 19, 21);
-        GameHistoryResponse push = new GameHistoryResponse("3", "2024-01-15", "PUSH", 20, 20);
-        GameHistoryResponse blackjack = new GameHistoryResponse("4", "2024-01-15", "BLACKJACK", 21, 20);
+        GameHistoryResponse win = new GameHistoryResponse("1", "2024-01-15", "PLAYER_WINS", 21, 19, null);
+        GameHistoryResponse loss = new GameHistoryResponse("2", "2024-01-15", "CRUPIER_WINS", 19, 21, null);
+        GameHistoryResponse push = new GameHistoryResponse("3", "2024-01-15", "PUSH", 20, 20, null);
+        GameHistoryResponse blackjack = new GameHistoryResponse("4", "2024-01-15", "BLACKJACK", 21, 20, null);
 
         assertEquals("PLAYER_WINS", win.result());
         assertEquals("CRUPIER_WINS", loss.result());
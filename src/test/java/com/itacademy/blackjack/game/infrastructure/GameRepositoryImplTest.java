@@ -1,23 +1,39 @@
 package com.itacademy.blackjack.game.infrastructure;
 
 import com.itacademy.blackjack.game.domain.model.Game;
+import com.itacademy.blackjack.game.domain.model.GameResult;
+import com.itacademy.blackjack.game.domain.model.exception.GameConflictException;
 import com.itacademy.blackjack.game.infrastructure.persistence.mongo.document.GameDocument;
 import com.itacademy.blackjack.game.infrastructure.persistence.mongo.mapper.GameMapper;
 import com.itacademy.blackjack.game.infrastructure.persistence.mongo.repository.GameMongoRepository;
 import com.itacademy.blackjack.game.infrastructure.persistence.mongo.repository.GameRepositoryImpl;
+import com.itacademy.blackjack.game.infrastructure.persistence.mongo.repository.GameResultCounts;
+import com.itacademy.blackjack.game.infrastructure.persistence.mongo.repository.GameSnapshot;
 import com.itacademy.blackjack.player.domain.model.Player;
+import org.bson.Document;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Instant;
 import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -31,11 +47,14 @@ class GameRepositoryImplTest {
     @Mock
     private GameMapper gameMapper;
 
+    @Mock
+    private ReactiveMongoTemplate mongoTemplate;
+
     private GameRepositoryImpl gameRepository;
 
     @BeforeEach
     void setUp() {
-        gameRepository = new GameRepositoryImpl(mongoRepository, gameMapper);
+        gameRepository = new GameRepositoryImpl(mongoRepository, gameMapper, mongoTemplate);
     }
 
     @Test
@@ -51,10 +70,10 @@ class GameRepositoryImplTest {
                 .build();
 
         GameDocument document = new GameDocument();
-        document.setId(gameId.toString());
+        document.setId(gameId);
 
         GameDocument savedDocument = new GameDocument();
-        savedDocument.setId(gameId.toString());
+        savedDocument.setId(gameId);
 
         when(gameMapper.toDocument(game)).thenReturn(document);
         when(mongoRepository.save(any(GameDocument.class))).thenReturn(Mono.just(savedDocument));
@@ -68,6 +87,47 @@ class GameRepositoryImplTest {
         verify(mongoRepository).save(document);
     }
 
+    @Test
+    void update_whenGameWasSaved_sendsOnlyTheDelta() {
+        // Given
+        Game game = Game.builder()
+                .id(UUID.randomUUID())
+                .player(Player.fromDatabase(UUID.randomUUID(), "TestPlayer", 0, 0, 0))
+                .build();
+        GameSnapshot persisted = GameSnapshot.inserted(game);
+        Update update = new Update().set("playerScore", 0);
+
+        when(gameMapper.toUpdate(game, persisted)).thenReturn(update);
+        when(mongoTemplate.findAndModify(any(Query.class), eq(update), eq(GameDocument.class)))
+                .thenReturn(Mono.just(new GameDocument()));
+
+        // When & Then
+        StepVerifier.create(gameRepository.update(game, persisted))
+                .expectNext(game)
+                .verifyComplete();
+
+        verify(mongoRepository, never()).save(any(GameDocument.class));
+    }
+
+    @Test
+    void update_whenStoredVersionMovedOn_failsWithConflict() {
+        // Given
+        Game game = Game.builder()
+                .id(UUID.randomUUID())
+                .player(Player.fromDatabase(UUID.randomUUID(), "TestPlayer", 0, 0, 0))
+                .build();
+        GameSnapshot persisted = new GameSnapshot(2, 2, game.getGameStatus(), 3);
+
+        when(gameMapper.toUpdate(game, persisted)).thenReturn(new Update());
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), eq(GameDocument.class)))
+                .thenReturn(Mono.empty());
+
+        // When & Then
+        StepVerifier.create(gameRepository.update(game, persisted))
+                .expectError(GameConflictException.class)
+                .verify();
+    }
+
     @Test
     void findById_whenGameExists_returnsGame() {
         // Given
@@ -80,9 +140,9 @@ class GameRepositoryImplTest {
                 .build();
 
         GameDocument document = new GameDocument();
-        document.setId(gameId.toString());
+        document.setId(gameId);
 
-        when(mongoRepository.findById(gameId.toString())).thenReturn(Mono.just(document));
+        when(mongoRepository.findById(gameId)).thenReturn(Mono.just(document));
         when(gameMapper.toDomain(document)).thenReturn(expectedGame);
 
         // When & Then
@@ -96,7 +156,7 @@ class GameRepositoryImplTest {
         // Given
         UUID gameId = UUID.randomUUID();
 
-        when(mongoRepository.findById(gameId.toString())).thenReturn(Mono.empty());
+        when(mongoRepository.findById(gameId)).thenReturn(Mono.empty());
 
         // When & Then
         StepVerifier.create(gameRepository.findById(gameId))
@@ -108,13 +168,13 @@ class GameRepositoryImplTest {
         // Given
         UUID gameId = UUID.randomUUID();
 
-        when(mongoRepository.deleteById(gameId.toString())).thenReturn(Mono.empty().then());
+        when(mongoRepository.deleteById(gameId)).thenReturn(Mono.empty().then());
 
         // When & Then
         StepVerifier.create(gameRepository.deleteById(gameId))
                 .verifyComplete();
 
-        verify(mongoRepository).deleteById(gameId.toString());
+        verify(mongoRepository).deleteById(gameId);
     }
 
     @Test
@@ -129,9 +189,9 @@ class GameRepositoryImplTest {
                 .build();
 
         GameDocument document = new GameDocument();
-        document.setId(gameId.toString());
+        document.setId(gameId);
 
-        when(mongoRepository.findByPlayerId(playerId.toString()))
+        when(mongoRepository.findByPlayerId(playerId))
                 .thenReturn(Flux.just(document));
         when(gameMapper.toDomain(document)).thenReturn(game);
 
@@ -146,10 +206,82 @@ class GameRepositoryImplTest {
         // Given
         UUID playerId = UUID.randomUUID();
 
-        when(mongoRepository.findByPlayerId(playerId.toString())).thenReturn(Flux.empty());
+        when(mongoRepository.findByPlayerId(playerId)).thenReturn(Flux.empty());
 
         // When & Then
         StepVerifier.create(gameRepository.findByPlayerId(playerId))
                 .verifyComplete();
     }
+
+    @Test
+    void countResultsByPlayerId_foldsTheGroupedCounts() {
+        // Given: One row per outcome, as returned by the $group stage
+        UUID playerId = UUID.randomUUID();
+
+        when(mongoTemplate.aggregate(any(TypedAggregation.class), eq(Document.class))).thenReturn(Flux.just(
+                new Document("_id", "PLAYER_WINS").append("count", 3),
+                new Document("_id", "BLACKJACK").append("count", 2),
+                new Document("_id", "CRUPIER_WINS").append("count", 4),
+                new Document("_id", "PUSH").append("count", 1L)));
+
+        // When & Then: Blackjacks count as wins
+        StepVerifier.create(gameRepository.countResultsByPlayerId(playerId))
+                .expectNext(new GameResultCounts(5, 4, 1))
+                .verifyComplete();
+    }
+
+    @Test
+    void countResultsByPlayerId_whenNoGames_returnsZeros() {
+        UUID playerId = UUID.randomUUID();
+
+        when(mongoTemplate.aggregate(any(TypedAggregation.class), eq(Document.class))).thenReturn(Flux.empty());
+
+        StepVerifier.create(gameRepository.countResultsByPlayerId(playerId))
+                .expectNext(GameResultCounts.NONE)
+                .verifyComplete();
+    }
+
+    @Test
+    void findAndDeleteById_returnsTheDeletedResult() {
+        // Given
+        UUID gameId = UUID.randomUUID();
+        UUID playerId = UUID.randomUUID();
+        GameDocument deleted = GameDocument.builder()
+                .playerId(playerId)
+                .gameResult(GameResult.PUSH)
+                .build();
+
+        when(mongoTemplate.findAndRemove(any(Query.class), eq(GameDocument.class))).thenReturn(Mono.just(deleted));
+
+        // When & Then
+        StepVerifier.create(gameRepository.findAndDeleteById(gameId))
+                .expectNext(deleted)
+                .verifyComplete();
+        verify(mongoRepository, never()).deleteById(any(UUID.class));
+    }
+
+    @Test
+    void findHistoryPage_filtersSortsAndLimitsInMongo() {
+        // Given
+        UUID playerId = UUID.randomUUID();
+        UUID beforeId = UUID.randomUUID();
+        Instant beforeFinishedAt = Instant.ofEpochMilli(1_700_000_000_000L);
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+
+        when(mongoTemplate.find(query.capture(), eq(GameDocument.class))).thenReturn(Flux.empty());
+
+        // When
+        StepVerifier.create(gameRepository.findHistoryPage(playerId, beforeFinishedAt, beforeId, 20))
+                .verifyComplete();
+
+        // Then: Keyset after (finishedAt, _id), newest first, without cards
+        Query sent = query.getValue();
+        assertEquals(20, sent.getLimit());
+        assertEquals(playerId, sent.getQueryObject().get("playerId"));
+        assertTrue(sent.getQueryObject().containsKey("$or"));
+        assertEquals(-1, sent.getSortObject().get("finishedAt"));
+        assertEquals(-1, sent.getSortObject().get("_id"));
+        assertFalse(sent.getFieldsObject().containsKey("playerCards"));
+        assertEquals(1, sent.getFieldsObject().get("gameResult"));
+    }
 }
@@ -0,0 +1,231 @@
+package com.itacademy.blackjack.game.infrastructure.persistence.memory;
+
+import com.itacademy.blackjack.game.domain.model.Game;
+import com.itacademy.blackjack.game.domain.model.GameResult;
+import com.itacademy.blackjack.game.domain.model.GameStatus;
+import com.itacademy.blackjack.game.domain.model.exception.GameConflictException;
+import com.itacademy.blackjack.game.infrastructure.persistence.mongo.repository.GameRepositoryImpl;
+import com.itacademy.blackjack.game.infrastructure.persistence.mongo.repository.GameSnapshot;
+import com.itacademy.blackjack.player.domain.model.Player;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.util.function.Tuples;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ActiveGameStoreTest {
+
+    @Mock
+    private GameRepositoryImpl mongoGames;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ActiveGameStore store;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        store = new ActiveGameStore(mongoGames, meterRegistry, 2, Duration.ofMinutes(10), Duration.ofSeconds(1));
+    }
+
+    private Game createGame(GameStatus status) {
+        return Game.builder()
+                .id(UUID.randomUUID())
+                .gameStatus(status)
+                .gameResult(status == GameStatus.FINISHED ? GameResult.PLAYER_WINS : GameResult.NO_RESULTS_YET)
+                .player(Player.fromDatabase(UUID.randomUUID(), "TestPlayer", 0, 0, 0))
+                .build();
+    }
+
+    @Test
+    void save_unfinishedGame_isServedFromMemoryUntilFlushed() {
+        Game game = createGame(GameStatus.PLAYER_TURN);
+
+        StepVerifier.create(store.save(game).then(store.findById(game.getId())))
+                .expectNext(game)
+                .verifyComplete();
+
+        verifyNoInteractions(mongoGames);
+        assertEquals(1, store.dirtyEntries());
+        assertEquals(1.0, meterRegistry.get("blackjack.games.store.hit.ratio").gauge().value());
+    }
+
+    @Test
+    void flushAndEvict_writesDirtyGamesOnce() {
+        Game game = createGame(GameStatus.PLAYER_TURN);
+        when(mongoGames.save(game)).thenReturn(Mono.just(game));
+        store.save(game).block();
+
+        StepVerifier.create(store.flushAndEvict().then(store.flushAndEvict()))
+                .verifyComplete();
+
+        verify(mongoGames, times(1)).save(game);
+        assertEquals(0, store.dirtyEntries());
+        assertEquals(1, meterRegistry.get("blackjack.games.store.flush.lag").timer().count());
+    }
+
+    @Test
+    void save_finishedGame_isFlushedImmediatelyAndLeavesTheStore() {
+        Game game = createGame(GameStatus.FINISHED);
+        when(mongoGames.save(game)).thenReturn(Mono.just(game));
+
+        StepVerifier.create(store.save(game))
+                .expectNext(game)
+                .verifyComplete();
+
+        verify(mongoGames).save(game);
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    void findById_miss_loadsFromMongoOnceAndCaches() {
+        Game game = createGame(GameStatus.PLAYER_TURN);
+        when(mongoGames.findWithSnapshot(game.getId()))
+                .thenReturn(Mono.just(Tuples.of(game, GameSnapshot.inserted(game))));
+
+        store.findById(game.getId()).block();
+        StepVerifier.create(store.findById(game.getId()))
+                .expectNext(game)
+                .verifyComplete();
+
+        verify(mongoGames, times(1)).findWithSnapshot(game.getId());
+        assertEquals(0.5, meterRegistry.get("blackjack.games.store.hit.ratio").gauge().value());
+    }
+
+    @Test
+    void flushAndEvict_afterFirstInsert_sendsDeltaAgainstLastWrite() {
+        Game game = createGame(GameStatus.PLAYER_TURN);
+        GameSnapshot inserted = GameSnapshot.inserted(game);
+        when(mongoGames.save(game)).thenReturn(Mono.just(game));
+        when(mongoGames.update(game, inserted)).thenReturn(Mono.just(game));
+        store.save(game).block();
+        store.flushAndEvict().block();
+
+        store.save(game).block();
+        store.flushAndEvict().block();
+
+        verify(mongoGames, times(1)).save(game);
+        verify(mongoGames, times(1)).update(game, inserted);
+    }
+
+    @Test
+    void flushAndEvict_loadedGame_isNeverInsertedAgain() {
+        Game game = createGame(GameStatus.PLAYER_TURN);
+        GameSnapshot stored = new GameSnapshot(0, 0, GameStatus.PLAYER_TURN, 7);
+        when(mongoGames.findWithSnapshot(game.getId())).thenReturn(Mono.just(Tuples.of(game, stored)));
+        when(mongoGames.update(any(Game.class), any(GameSnapshot.class))).thenReturn(Mono.just(game));
+
+        store.findById(game.getId()).flatMap(store::save).block();
+        store.flushAndEvict().block();
+
+        verify(mongoGames).update(game, stored);
+        verify(mongoGames, never()).save(any(Game.class));
+    }
+
+    @Test
+    void save_finishedGameWithStaleVersion_failsAndDropsTheCachedGame() {
+        Game game = createGame(GameStatus.PLAYER_TURN);
+        when(mongoGames.save(game)).thenReturn(Mono.just(game));
+        when(mongoGames.update(any(Game.class), any(GameSnapshot.class)))
+                .thenReturn(Mono.error(new GameConflictException("stale")));
+        store.save(game).then(store.flushAndEvict()).block();
+
+        Game finished = createGame(GameStatus.FINISHED);
+        Game sameIdFinished = Game.builder()
+                .id(game.getId())
+                .gameStatus(GameStatus.FINISHED)
+                .gameResult(finished.getGameResult())
+                .player(finished.getPlayer())
+                .build();
+
+        StepVerifier.create(store.save(sameIdFinished))
+                .expectError(GameConflictException.class)
+                .verify();
+
+        assertEquals(0, store.size());
+        assertEquals(0, store.dirtyEntries());
+        assertEquals(1.0, meterRegistry.get("blackjack.games.store.flush.conflicts").counter().count());
+    }
+
+    @Test
+    void flushAndEvict_trimsCleanEntriesPastMaxSize() {
+        when(mongoGames.save(any(Game.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        for (int i = 0; i < 3; i++) {
+            store.save(createGame(GameStatus.PLAYER_TURN)).block();
+        }
+
+        store.flushAndEvict().block();
+
+        assertEquals(2, store.size());
+    }
+
+    @Test
+    void save_afterIdleEviction_updatesInsteadOfInsertingAgain() {
+        ActiveGameStore evicting = new ActiveGameStore(mongoGames, meterRegistry, 2, Duration.ZERO, Duration.ofSeconds(1));
+        Game game = createGame(GameStatus.PLAYER_TURN);
+        GameSnapshot inserted = GameSnapshot.inserted(game);
+        when(mongoGames.save(game)).thenReturn(Mono.just(game));
+        when(mongoGames.update(game, inserted)).thenReturn(Mono.just(game));
+        evicting.save(game).then(evicting.flushAndEvict()).block();
+        assertEquals(0, evicting.size());
+
+        evicting.save(game).then(evicting.flushAndEvict()).block();
+
+        verify(mongoGames, times(1)).save(game);
+        verify(mongoGames).update(game, inserted);
+    }
+
+    @Test
+    void deleteById_waitsForTheFlushInFlightAndRejectsLaterSaves() {
+        Game game = createGame(GameStatus.PLAYER_TURN);
+        when(mongoGames.save(game)).thenReturn(Mono.just(game).delayElement(Duration.ofMillis(100)));
+        when(mongoGames.deleteById(game.getId())).thenReturn(Mono.empty());
+        store.save(game).block();
+        store.flushAndEvict().subscribe();
+
+        store.deleteById(game.getId()).block();
+
+        InOrder order = inOrder(mongoGames);
+        order.verify(mongoGames).save(game);
+        order.verify(mongoGames).deleteById(game.getId());
+        StepVerifier.create(store.save(game))
+                .expectError(GameConflictException.class)
+                .verify();
+        store.flushAndEvict().block();
+        verify(mongoGames, times(1)).save(game);
+        assertEquals(0, store.dirtyEntries());
+    }
+
+    @Test
+    void findById_afterAWriteBehindConflict_failsOnceThenReloads() {
+        Game game = createGame(GameStatus.PLAYER_TURN);
+        Game reloaded = createGame(GameStatus.PLAYER_TURN);
+        when(mongoGames.save(game)).thenReturn(Mono.just(game));
+        when(mongoGames.update(any(Game.class), any(GameSnapshot.class)))
+                .thenReturn(Mono.error(new GameConflictException("stale")));
+        when(mongoGames.findWithSnapshot(game.getId()))
+                .thenReturn(Mono.just(Tuples.of(reloaded, GameSnapshot.inserted(reloaded))));
+        store.save(game).then(store.flushAndEvict()).block();
+        store.save(game).then(store.flushAndEvict()).block();
+
+        StepVerifier.create(store.findById(game.getId()))
+                .expectError(GameConflictException.class)
+                .verify();
+        StepVerifier.create(store.findById(game.getId()))
+                .expectNext(reloaded)
+                .verifyComplete();
+        assertEquals(0, store.dirtyEntries());
+    }
+}
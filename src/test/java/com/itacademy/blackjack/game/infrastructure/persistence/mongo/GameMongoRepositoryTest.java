@@ -15,6 +15,7 @@ import reactor.test.StepVerifier;
 
 import java.time.Instant;
 import java.util.Arrays;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -42,6 +43,7 @@ class GameMongoRepositoryTest {
         GameDocument.CardDocument card2 = new GameDocument.CardDocument("KING", "HEARTS", 10);
 
         return GameDocument.builder()
+                .id(UUID.randomUUID())
                 .playerName(playerName)
                 .playerCards(Arrays.asList(card1, card2))
                 .playerScore(21)
@@ -155,7 +157,7 @@ class GameMongoRepositoryTest {
         @Test
         @DisplayName("Find non-existent game returns empty")
         void testFindNonExistentGame() {
-            StepVerifier.create(gameMongoRepository.findById("non-existent-id"))
+            StepVerifier.create(gameMongoRepository.findById(UUID.randomUUID()))
                     .expectNextCount(0)
                     .verifyComplete();
         }
@@ -163,7 +165,7 @@ class GameMongoRepositoryTest {
         @Test
         @DisplayName("Delete non-existent game should not throw")
         void testDeleteNonExistentGame() {
-            StepVerifier.create(gameMongoRepository.deleteById("non-existent-id"))
+            StepVerifier.create(gameMongoRepository.deleteById(UUID.randomUUID()))
                     .verifyComplete();
         }
 
@@ -199,6 +201,7 @@ class GameMongoRepositoryTest {
             GameDocument.CardDocument card5 = new GameDocument.CardDocument("SEVEN", "HEARTS", 7);
 
             GameDocument complexGame = GameDocument.builder()
+                    .id(UUID.randomUUID())
                     .playerName("ComplexPlayer")
                     .playerCards(Arrays.asList(card1, card2, card3))
                     .playerScore(24)
@@ -0,0 +1,162 @@
+package com.itacademy.blackjack.game.infrastructure.persistence.mongo.repository;
+
+import com.itacademy.blackjack.config.TestMongoConfig;
+import com.itacademy.blackjack.game.domain.model.GameStatus;
+import com.itacademy.blackjack.game.infrastructure.persistence.mongo.document.GameDocument;
+import com.itacademy.blackjack.game.infrastructure.persistence.mongo.migration.GameIndexInitializer;
+import com.mongodb.reactivestreams.client.FindPublisher;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.TypeBasedAggregationOperationContext;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Query;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Runs {@code explain()} on the queries the games repository sends and fails when the
+ * winning plan scans the whole collection. Queries built by {@link GameRepositoryImpl}
+ * come from its factory methods, mapped the way the template maps them; the derived
+ * {@link GameMongoRepository} finders are written out as filters. A new query needs its
+ * test here and usually an index on {@code GameDocument}.
+ */
+@DataMongoTest
+@Import({TestMongoConfig.class, GameIndexInitializer.class})
+class GameIndexExplainTest {
+
+    @Autowired
+    private ReactiveMongoTemplate mongoTemplate;
+
+    @Autowired
+    private GameIndexInitializer indexInitializer;
+
+    private MongoCollection<Document> games;
+    private QueryMapper queryMapper;
+    private MongoPersistentEntity<?> gameEntity;
+
+    @BeforeEach
+    void setUp() {
+        indexInitializer.ensureIndexes().block();
+        games = mongoTemplate.getCollection("games").block();
+        queryMapper = new QueryMapper(mongoTemplate.getConverter());
+        gameEntity = mongoTemplate.getConverter().getMappingContext().getRequiredPersistentEntity(GameDocument.class);
+    }
+
+    private Document explainFind(Document filter) {
+        return Mono.from(games.find(filter).explain(Document.class)).block();
+    }
+
+    private Document explainFind(Query query) {
+        FindPublisher<Document> find = games.find(queryMapper.getMappedObject(query.getQueryObject(), gameEntity))
+                .sort(queryMapper.getMappedSort(query.getSortObject(), gameEntity));
+        if (query.isLimited()) {
+            find = find.limit(query.getLimit());
+        }
+        return Mono.from(find.explain(Document.class)).block();
+    }
+
+    private Document explainAggregate(TypedAggregation<GameDocument> aggregation) {
+        List<Document> pipeline = aggregation.toPipeline(new TypeBasedAggregationOperationContext(
+                GameDocument.class, mongoTemplate.getConverter().getMappingContext(), queryMapper));
+        return Mono.from(games.aggregate(pipeline).explain(Document.class)).block();
+    }
+
+    private static void assertNoCollectionScan(String query, Document explain) {
+        assertFalse(containsStage(explain, "COLLSCAN"), () -> query + " scans the collection: " + explain.toJson());
+    }
+
+    // Stages nest differently for find and aggregate, and by server version, so search everywhere
+    private static boolean containsStage(Object node, String stage) {
+        if (node instanceof Document document) {
+            return stage.equals(document.get("stage"))
+                    || document.values().stream().anyMatch(value -> containsStage(value, stage));
+        }
+        if (node instanceof List<?> list) {
+            return list.stream().anyMatch(value -> containsStage(value, stage));
+        }
+        return false;
+    }
+
+    @Test
+    @DisplayName("findByPlayerId uses an index")
+    void findByPlayerId() {
+        assertNoCollectionScan("findByPlayerId", explainFind(new Document("playerId", UUID.randomUUID())));
+    }
+
+    @Test
+    @DisplayName("findByPlayerName uses an index")
+    void findByPlayerName() {
+        assertNoCollectionScan("findByPlayerName", explainFind(new Document("playerName", "Ana")));
+    }
+
+    @Test
+    @DisplayName("findByGameStatus on live games uses the partial index")
+    void findByGameStatus() {
+        assertNoCollectionScan("findByGameStatus", explainFind(new Document("gameStatus", "PLAYER_TURN")));
+    }
+
+    @Test
+    @DisplayName("findByGameResult uses an index")
+    void findByGameResult() {
+        assertNoCollectionScan("findByGameResult", explainFind(new Document("gameResult", "PLAYER_WINS")));
+    }
+
+    @Test
+    @DisplayName("findHistoryPage reads the index in sort order")
+    void findHistoryPage() {
+        Document explain = explainFind(GameRepositoryImpl.historyPageQuery(UUID.randomUUID(), null, null, 20));
+
+        assertNoCollectionScan("findHistoryPage", explain);
+        assertFalse(containsStage(explain, "SORT"), () -> "findHistoryPage sorts in memory: " + explain.toJson());
+    }
+
+    @Test
+    @DisplayName("findHistoryPage after a cursor reads the index in sort order")
+    void findHistoryPageBeforeCursor() {
+        Document explain = explainFind(GameRepositoryImpl.historyPageQuery(
+                UUID.randomUUID(), Instant.parse("2024-05-01T10:00:00Z"), UUID.randomUUID(), 20));
+
+        assertNoCollectionScan("findHistoryPage with a cursor", explain);
+        assertFalse(containsStage(explain, "SORT"),
+                () -> "findHistoryPage with a cursor sorts in memory: " + explain.toJson());
+    }
+
+    @Test
+    @DisplayName("countResultsByPlayerId uses an index")
+    void countResultsByPlayerId() {
+        Document explain = explainAggregate(GameRepositoryImpl.resultCountsAggregation(UUID.randomUUID()));
+
+        assertNoCollectionScan("countResultsByPlayerId", explain);
+    }
+
+    @Test
+    @DisplayName("update finds the game by id")
+    void update() {
+        GameSnapshot persisted = new GameSnapshot(2, 1, GameStatus.PLAYER_TURN, 3);
+
+        assertNoCollectionScan("update", explainFind(GameRepositoryImpl.versionedQuery(UUID.randomUUID(), persisted)));
+    }
+
+    @Test
+    @DisplayName("reassignPlayer uses an index")
+    void reassignPlayer() {
+        Document explain = explainFind(GameRepositoryImpl.gamesOfPlayersQuery(
+                List.of(UUID.randomUUID(), UUID.randomUUID())));
+
+        assertNoCollectionScan("reassignPlayer", explain);
+    }
+}
@@ -2,11 +2,16 @@ package com.itacademy.blackjack.game.infrastructure.web;
 
 import com.itacademy.blackjack.game.application.GameService;
 import com.itacademy.blackjack.game.application.dto.CardResponse;
+import com.itacademy.blackjack.game.application.dto.DealerOddsResponse;
+import com.itacademy.blackjack.game.application.dto.GameEvent;
 import com.itacademy.blackjack.game.application.dto.GameResponse;
+import com.itacademy.blackjack.game.application.dto.HintResponse;
 import com.itacademy.blackjack.game.application.dto.PlayerResponse;
+import com.itacademy.blackjack.game.domain.model.DealerOdds;
 import com.itacademy.blackjack.game.domain.model.GameResult;
 import com.itacademy.blackjack.game.domain.model.GameStatus;
 import com.itacademy.blackjack.game.domain.model.PlayerStatus;
+import com.itacademy.blackjack.game.domain.model.exception.NotPlayerTurnException;
 import com.itacademy.blackjack.game.infrastructure.persistence.mongo.document.GameDocument;
 import com.itacademy.blackjack.game.infrastructure.persistence.mongo.repository.GameRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,14 +21,21 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
 import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @WebFluxTest(GameController.class)
@@ -61,7 +73,8 @@ class GameControllerTest {
                         PlayerStatus.ACTIVE
                 ),
                 List.of(new CardResponse("Ten", "Hearts", 10)),
-                10
+                10,
+                List.of()
         );
     }
 
@@ -160,7 +173,8 @@ class GameControllerTest {
                         new CardResponse("Ten", "Hearts", 10),
                         new CardResponse("Five", "Diamonds", 5)
                 ),
-                15
+                15,
+                List.of(new CardResponse("Five", "Diamonds", 5))
         );
         when(gameService.crupierHitOneCard(testGameId)).thenReturn(Mono.just(crupierTurnResponse));
 
@@ -190,9 +204,10 @@ class GameControllerTest {
                 ),
                 List.of(
                         new CardResponse("Ten", "Hearts", 10),
-                        new CardResponse("Seven", "Diamonds", 17)
+                        new CardResponse("Seven", "Diamonds", 7)
                 ),
-                17
+                17,
+                List.of(new CardResponse("Seven", "Diamonds", 7))
         );
         when(gameService.crupierHitOneCard(testGameId)).thenReturn(Mono.just(finishedResponse));
 
@@ -206,6 +221,123 @@ class GameControllerTest {
                 .jsonPath("$.result").isEqualTo("PLAYER_WINS");
     }
 
+    @Test
+    void testStand_WithResolve_ReturnsFinishedGameWithCrupierDraws() {
+        GameResponse resolvedResponse = new GameResponse(
+                testGameId,
+                GameStatus.FINISHED,
+                GameResult.CRUPIER_WINS,
+                new PlayerResponse(
+                        testPlayerId,
+                        "TestPlayer",
+                        List.of(new CardResponse("Ten", "Spades", 10), new CardResponse("Eight", "Clubs", 8)),
+                        18,
+                        PlayerStatus.STOOD
+                ),
+                List.of(
+                        new CardResponse("Ten", "Hearts", 10),
+                        new CardResponse("Two", "Diamonds", 2),
+                        new CardResponse("Three", "Clubs", 3),
+                        new CardResponse("Five", "Spades", 5)
+                ),
+                20,
+                List.of(new CardResponse("Three", "Clubs", 3), new CardResponse("Five", "Spades", 5))
+        );
+        when(gameService.playerStandAndResolve(testGameId)).thenReturn(Mono.just(resolvedResponse));
+
+        webTestClient.post()
+                .uri("/games/{id}/stand?resolve=true", testGameId)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo("FINISHED")
+                .jsonPath("$.crupierDraws.length()").isEqualTo(2)
+                .jsonPath("$.crupierDraws[0].rank").isEqualTo("Three")
+                .jsonPath("$.crupierDraws[1].rank").isEqualTo("Five");
+
+        verify(gameService, never()).playerStand(testGameId);
+    }
+
+    @Test
+    void testStand_WithoutResolve_LeavesCrupierTurnToTheClient() {
+        when(gameService.playerStand(testGameId)).thenReturn(Mono.just(testGameResponse));
+
+        webTestClient.post()
+                .uri("/games/{id}/stand", testGameId)
+                .exchange()
+                .expectStatus().isOk();
+
+        verify(gameService, never()).playerStandAndResolve(testGameId);
+    }
+
+    @Test
+    void testEvents_StreamsNamedServerSentEvents() {
+        when(gameService.gameEvents(testGameId)).thenReturn(Flux.just(
+                new GameEvent.CardDealt(testGameId, GameEvent.Recipient.CRUPIER, new CardResponse("Five", "Spades", 5)),
+                new GameEvent.StatusChanged(testGameId, GameStatus.FINISHED),
+                new GameEvent.GameFinished(testGameId, GameResult.PLAYER_WINS, 20, 22)
+        ));
+
+        List<ServerSentEvent<String>> events = webTestClient.get()
+                .uri("/games/{id}/events", testGameId)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(new ParameterizedTypeReference<ServerSentEvent<String>>() {})
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        assertEquals(List.of("CardDealt", "StatusChanged", "GameFinished"),
+                events.stream().map(ServerSentEvent::event).toList());
+        assertTrue(events.get(0).data().contains("\"recipient\":\"CRUPIER\""));
+        assertTrue(events.get(2).data().contains("\"result\":\"PLAYER_WINS\""));
+    }
+
+    @Test
+    void testOdds_ReturnsCrupierOdds() {
+        DealerOddsResponse response = new DealerOddsResponse(testGameId, new CardResponse("Six", "Hearts", 6), 49,
+                new DealerOdds(0.15, 0.11, 0.11, 0.10, 0.10, 0.43));
+        when(gameService.getDealerOdds(testGameId)).thenReturn(Mono.just(response));
+
+        webTestClient.get()
+                .uri("/games/{id}/odds", testGameId)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.upcard.rank").isEqualTo("Six")
+                .jsonPath("$.unseenCards").isEqualTo(49)
+                .jsonPath("$.odds.bust").isEqualTo(0.43);
+    }
+
+    @Test
+    void testHint_ReturnsExpectedValuesAndAction() {
+        HintResponse response = new HintResponse(testGameId, 16, new CardResponse("Ten", "Hearts", 10),
+                -0.54, -0.51, HintResponse.Action.HIT, HintResponse.Action.HIT);
+        when(gameService.getHint(testGameId)).thenReturn(Mono.just(response));
+
+        webTestClient.get()
+                .uri("/games/{id}/hint", testGameId)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.playerScore").isEqualTo(16)
+                .jsonPath("$.standEv").isEqualTo(-0.54)
+                .jsonPath("$.recommendation").isEqualTo("HIT")
+                .jsonPath("$.basicStrategy").isEqualTo("HIT");
+    }
+
+    @Test
+    void testHint_ReturnsBadRequest_WhenNotPlayersTurn() {
+        when(gameService.getHint(testGameId))
+                .thenReturn(Mono.error(new NotPlayerTurnException("Hints are only given on the player's turn")));
+
+        webTestClient.get()
+                .uri("/games/{id}/hint", testGameId)
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
     @Test
     void testDeleteGame_ReturnsNoContent() {
         // Given
@@ -0,0 +1,94 @@
+package com.itacademy.blackjack.game.model;
+
+import com.itacademy.blackjack.deck.model.Card;
+import com.itacademy.blackjack.deck.model.CardRank;
+import com.itacademy.blackjack.deck.model.Suit;
+import com.itacademy.blackjack.game.domain.model.BasicStrategy;
+import com.itacademy.blackjack.game.domain.model.Hand;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BasicStrategyTest {
+
+    // Published single-deck hit/stand strategy, crupier standing on all 17s, columns 2 to 10
+    // then ace. Doubles count as hits, except soft 18 (stand when a double is not allowed).
+    private static final String[] HARD_4_TO_21 = {
+            "HHHHHHHHHH", "HHHHHHHHHH", "HHHHHHHHHH", "HHHHHHHHHH", "HHHHHHHHHH", // 4 to 8
+            "HHHHHHHHHH", "HHHHHHHHHH", "HHHHHHHHHH",                             // 9 to 11
+            "HHSSSHHHHH",                                                         // 12
+            "SSSSSHHHHH", "SSSSSHHHHH", "SSSSSHHHHH", "SSSSSHHHHH",               // 13 to 16
+            "SSSSSSSSSS", "SSSSSSSSSS", "SSSSSSSSSS", "SSSSSSSSSS", "SSSSSSSSSS"  // 17 to 21
+    };
+    private static final String[] SOFT_12_TO_21 = {
+            "HHHHHHHHHH", "HHHHHHHHHH", "HHHHHHHHHH", "HHHHHHHHHH", "HHHHHHHHHH", // 12 to 16
+            "HHHHHHHHHH",                                                         // 17
+            "SSSSSSSHHS",                                                         // 18
+            "SSSSSSSSSS", "SSSSSSSSSS", "SSSSSSSSSS"                              // 19 to 21
+    };
+
+    private static boolean published(int total, boolean soft, int upcard) {
+        String row = soft ? SOFT_12_TO_21[total - 12] : HARD_4_TO_21[total - 4];
+        return row.charAt(upcard == 1 ? 9 : upcard - 2) == 'H';
+    }
+
+    @Test
+    void load_matchesPublishedSingleDeckStrategy() {
+        BasicStrategy strategy = BasicStrategy.load();
+
+        for (int upcard = 1; upcard <= 10; upcard++) {
+            for (int total = 4; total <= 21; total++) {
+                assertEquals(published(total, false, upcard), strategy.shouldHit(total, false, upcard),
+                        "hard " + total + " against " + upcard);
+            }
+            for (int total = 12; total <= 21; total++) {
+                // Published tables assume the crupier peeks for blackjack; here its two-card 21 is
+                // only 21, which keeps more tens under an ace and makes hitting soft 18 better
+                boolean expected = total == 18 && upcard == 1 || published(total, true, upcard);
+                assertEquals(expected, strategy.shouldHit(total, true, upcard), "soft " + total + " against " + upcard);
+            }
+        }
+    }
+
+    @Test
+    void shouldHit_readsTheHandsScoreAndSoftness() {
+        BasicStrategy strategy = BasicStrategy.load();
+        Hand softEighteen = new Hand(List.of(Card.of(CardRank.ACE, Suit.HEARTS), Card.of(CardRank.SEVEN, Suit.CLUBS)));
+
+        assertTrue(strategy.shouldHit(softEighteen, 9));
+        assertFalse(strategy.shouldHit(softEighteen, 7));
+    }
+
+    @Test
+    void writeAndRead_roundTrip() throws IOException {
+        BasicStrategy strategy = BasicStrategy.tabulate((total, soft, upcard) -> (total + upcard) % 3 == 0 && !soft);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        strategy.write(out);
+        BasicStrategy read = BasicStrategy.read(new ByteArrayInputStream(out.toByteArray()));
+
+        assertEquals(60, out.size());
+        assertEquals(strategy, read);
+        assertTrue(read.shouldHit(14, false, 1));
+        assertFalse(read.shouldHit(14, false, 2));
+    }
+
+    @Test
+    void read_rejectsOtherFiles() {
+        assertThrows(IOException.class, () -> BasicStrategy.read(new ByteArrayInputStream(new byte[60])));
+    }
+
+    @Test
+    void shouldHit_rejectsTotalsOutsideTheTable() {
+        BasicStrategy strategy = BasicStrategy.load();
+
+        assertThrows(IllegalArgumentException.class, () -> strategy.shouldHit(11, true, 6));
+        assertThrows(IllegalArgumentException.class, () -> strategy.shouldHit(22, false, 6));
+        assertThrows(IllegalArgumentException.class, () -> strategy.shouldHit(16, false, 11));
+    }
+}
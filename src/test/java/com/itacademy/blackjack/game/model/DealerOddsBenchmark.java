@@ -0,0 +1,66 @@
+package com.itacademy.blackjack.game.model;
+
+import com.itacademy.blackjack.deck.model.Deck;
+import com.itacademy.blackjack.game.domain.model.DealerOddsCalculator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Crupier odds for mid-game single-deck situations: an upcard and two to four player
+ * cards taken out of the deck. {@code cold} clears the memo before every call, so it
+ * pays for the whole recursion; {@code warm} cycles through {@value #SITUATIONS}
+ * situations with a memo large enough to keep them all, as a server does when the
+ * same situations come back across tables.
+ * <p>
+ * Run with: ./mvnw -Pbenchmark test-compile exec:exec -Djmh.include=DealerOddsBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DealerOddsBenchmark {
+
+    private static final int SITUATIONS = 1024;
+
+    private final int[] upcards = new int[SITUATIONS];
+    private final int[][] shoes = new int[SITUATIONS][];
+    private final double[] outcomes = new double[DealerOddsCalculator.OUTCOMES];
+    private DealerOddsCalculator cold;
+    private DealerOddsCalculator warm;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < SITUATIONS; i++) {
+            Deck deck = new Deck(random.split());
+            upcards[i] = deck.draw().getNumericValue();
+            for (int playerCards = 2 + random.nextInt(3); playerCards > 0; playerCards--) {
+                deck.draw();
+            }
+            shoes[i] = new int[11];
+            deck.countValues(shoes[i]);
+        }
+        cold = new DealerOddsCalculator(1 << 14);
+        warm = new DealerOddsCalculator(1 << 22);
+    }
+
+    @Benchmark
+    public double cold() {
+        int i = next++ & (SITUATIONS - 1);
+        cold.clearMemo();
+        cold.finalTotals(upcards[i], upcards[i] == 1, shoes[i], outcomes);
+        return outcomes[DealerOddsCalculator.BUST];
+    }
+
+    @Benchmark
+    public double warm() {
+        int i = next++ & (SITUATIONS - 1);
+        warm.finalTotals(upcards[i], upcards[i] == 1, shoes[i], outcomes);
+        return outcomes[DealerOddsCalculator.BUST];
+    }
+}
@@ -0,0 +1,140 @@
+package com.itacademy.blackjack.game.model;
+
+import com.itacademy.blackjack.deck.model.Card;
+import com.itacademy.blackjack.deck.model.CardRank;
+import com.itacademy.blackjack.deck.model.Suit;
+import com.itacademy.blackjack.game.domain.model.Crupier;
+import com.itacademy.blackjack.game.domain.model.DealerOdds;
+import com.itacademy.blackjack.game.domain.model.DealerOddsCalculator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DealerOddsCalculatorTest {
+
+    private static final CardRank[] RANK_BY_VALUE = {null, CardRank.ACE, CardRank.TWO, CardRank.THREE,
+            CardRank.FOUR, CardRank.FIVE, CardRank.SIX, CardRank.SEVEN, CardRank.EIGHT, CardRank.NINE, CardRank.TEN};
+
+    private static int[] deckWithout(int... values) {
+        int[] counts = DealerOddsCalculator.shoeCounts(1);
+        for (int value : values) {
+            counts[value]--;
+        }
+        return counts;
+    }
+
+    // Every draw order played out on a real Crupier, no memo
+    private static void bruteForce(List<Card> hand, int[] counts, double probability, double[] outcomes) {
+        Crupier crupier = new Crupier();
+        hand.forEach(crupier::receiveCard);
+        if (!crupier.mustHit()) {
+            outcomes[crupier.isBusted() ? DealerOddsCalculator.BUST : crupier.getScore() - 17] += probability;
+            return;
+        }
+        int remaining = Arrays.stream(counts).sum();
+        for (int value = 1; value <= 10; value++) {
+            if (counts[value] == 0) {
+                continue;
+            }
+            double draw = probability * counts[value] / remaining;
+            counts[value]--;
+            hand.add(Card.of(RANK_BY_VALUE[value], Suit.SPADES));
+            bruteForce(hand, counts, draw, outcomes);
+            hand.remove(hand.size() - 1);
+            counts[value]++;
+        }
+    }
+
+    @ParameterizedTest(name = "upcard {0}")
+    @ValueSource(ints = {1, 2, 6, 10})
+    void finalTotals_matchesEveryDrawOrderOnACrupier(int upcard) {
+        int[] shoe = deckWithout(upcard, 10, 7);
+        double[] expected = new double[DealerOddsCalculator.OUTCOMES];
+        bruteForce(new ArrayList<>(List.of(Card.of(RANK_BY_VALUE[upcard], Suit.HEARTS))), shoe.clone(), 1.0, expected);
+
+        double[] outcomes = new double[DealerOddsCalculator.OUTCOMES];
+        new DealerOddsCalculator(1 << 12).finalTotals(upcard, upcard == 1, shoe, outcomes);
+
+        assertArrayEquals(expected, outcomes, 1e-12);
+    }
+
+    @Test
+    void finalTotals_sameResultWhenTheMemoIsClearedMidway() {
+        DealerOddsCalculator roomy = new DealerOddsCalculator(1 << 14);
+        DealerOddsCalculator tiny = new DealerOddsCalculator(16);
+        for (int upcard = 1; upcard <= 10; upcard++) {
+            int[] shoe = deckWithout(upcard);
+            double[] expected = new double[DealerOddsCalculator.OUTCOMES];
+            double[] actual = new double[DealerOddsCalculator.OUTCOMES];
+            roomy.finalTotals(upcard, upcard == 1, shoe, expected);
+            tiny.finalTotals(upcard, upcard == 1, shoe, actual);
+
+            assertArrayEquals(expected, actual, 1e-12, "upcard " + upcard);
+            assertEquals(1.0, Arrays.stream(actual).sum(), 1e-12, "upcard " + upcard);
+        }
+        assertTrue(tiny.memoSize() <= 12);
+    }
+
+    @Test
+    void finalTotals_leavesTheShoeUntouched() {
+        int[] shoe = deckWithout(6);
+        int[] copy = shoe.clone();
+
+        new DealerOddsCalculator(1 << 12).fromUpcard(6, shoe);
+
+        assertArrayEquals(copy, shoe);
+    }
+
+    // Infinite-shoe bust rates standing on soft 17; seven decks come within a few thousandths
+    @ParameterizedTest(name = "upcard {0} busts {1}")
+    @CsvSource({"6, 0.4208", "10, 0.2139", "1, 0.1165"})
+    void fromUpcard_sevenDecksApproachInfiniteShoeOdds(int upcard, double bustRate) {
+        int[] shoe = DealerOddsCalculator.shoeCounts(7);
+        shoe[upcard]--;
+
+        DealerOdds odds = new DealerOddsCalculator(1 << 16).fromUpcard(upcard, shoe);
+
+        assertEquals(bustRate, odds.bust(), 0.003);
+    }
+
+    @Test
+    void fromUpcard_onlyTensLeft() {
+        int[] shoe = new int[11];
+        shoe[10] = 5;
+        DealerOddsCalculator calculator = new DealerOddsCalculator(16);
+
+        assertEquals(1.0, calculator.fromUpcard(6, shoe).bust());
+        assertEquals(1.0, calculator.fromUpcard(7, shoe).seventeen());
+        assertEquals(1.0, calculator.fromUpcard(1, shoe).twentyOne());
+    }
+
+    @Test
+    void finalTotals_standingHandNeedsNoShoe() {
+        double[] outcomes = new double[DealerOddsCalculator.OUTCOMES];
+        DealerOddsCalculator calculator = new DealerOddsCalculator(16);
+
+        calculator.finalTotals(8, true, new int[11], outcomes);   // soft 18
+        assertEquals(1.0, outcomes[1]);
+
+        calculator.finalTotals(24, false, new int[11], outcomes);
+        assertEquals(1.0, outcomes[DealerOddsCalculator.BUST]);
+    }
+
+    @Test
+    void finalTotals_rejectsShoesItCannotHandle() {
+        DealerOddsCalculator calculator = new DealerOddsCalculator(16);
+        double[] outcomes = new double[DealerOddsCalculator.OUTCOMES];
+
+        assertThrows(IllegalArgumentException.class,
+                () -> calculator.finalTotals(6, false, DealerOddsCalculator.shoeCounts(8), outcomes));
+        assertThrows(IllegalStateException.class,
+                () -> calculator.finalTotals(6, false, new int[11], outcomes));
+    }
+}
@@ -0,0 +1,77 @@
+package com.itacademy.blackjack.game.model;
+
+import com.itacademy.blackjack.deck.model.Card;
+import com.itacademy.blackjack.deck.model.Deck;
+import com.itacademy.blackjack.deck.model.ScoringService;
+import com.itacademy.blackjack.game.domain.model.Crupier;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A crupier turn with the incremental {@code Hand} score against re-scoring the
+ * card list through {@link ScoringService} on every check, as {@code Hand} did before.
+ * <p>
+ * Run with: ./mvnw -Pbenchmark test-compile exec:exec -Djmh.include=DealerTurnBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DealerTurnBenchmark {
+
+    private static final int SHOES = 1024;
+
+    private final Deck[] shoes = new Deck[SHOES];
+    private int next;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < SHOES; i++) {
+            shoes[i] = new Deck(6, random.split());
+        }
+    }
+
+    private Deck nextShoe() {
+        Deck shoe = shoes[next++ & (SHOES - 1)];
+        if (shoe.size() < 20) {
+            shoe.reset();
+        }
+        return shoe;
+    }
+
+    // Same calls as Game.crupierTurn + determineWinner
+    @Benchmark
+    public int incrementalHand() {
+        Deck shoe = nextShoe();
+        Crupier crupier = new Crupier();
+        crupier.receiveCard(shoe.draw());
+        crupier.receiveCard(shoe.draw());
+        int score = crupier.getScore();
+        while (crupier.mustHit()) {
+            crupier.receiveCard(shoe.draw());
+            score = crupier.getScore();
+        }
+        return crupier.isBusted() ? 0 : score + crupier.getScore();
+    }
+
+    @Benchmark
+    public int rescoredList() {
+        Deck shoe = nextShoe();
+        List<Card> cards = new ArrayList<>();
+        cards.add(shoe.draw());
+        cards.add(shoe.draw());
+        int score = ScoringService.calculateHandScore(cards);
+        while (ScoringService.calculateHandScore(cards) <= 16) {
+            cards.add(shoe.draw());
+            score = ScoringService.calculateHandScore(cards);
+        }
+        return ScoringService.calculateHandScore(cards) > 21 ? 0 : score + ScoringService.calculateHandScore(cards);
+    }
+}
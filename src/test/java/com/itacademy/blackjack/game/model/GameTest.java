@@ -2,6 +2,7 @@ package com.itacademy.blackjack.game.model;
 
 
 import com.itacademy.blackjack.deck.model.*;
+import com.itacademy.blackjack.game.domain.model.CardData;
 import com.itacademy.blackjack.game.domain.model.Crupier;
 import com.itacademy.blackjack.game.domain.model.Game;
 import com.itacademy.blackjack.game.domain.model.GameResult;
@@ -11,6 +12,7 @@ import com.itacademy.blackjack.player.domain.model.Player;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.UUID;
 
@@ -338,4 +340,73 @@ class GameTest {
         assertEquals(GameStatus.CRUPIER_TURN, game.getGameStatus());
     }
 
+    @Test
+    void testPlayerStandAndResolve_PlaysWholeCrupierTurn() {
+        Game game = createTestGame();
+        game.startGame();
+        if (game.getGameStatus() != GameStatus.PLAYER_TURN) {
+            return; // Dealt a blackjack, nothing to stand on
+        }
+
+        game.playerStandAndResolve();
+
+        assertEquals(GameStatus.FINISHED, game.getGameStatus());
+        assertNotEquals(GameResult.NO_RESULTS_YET, game.getGameResult());
+        assertTrue(game.getCrupier().mustStand());
+    }
+
+    @Test
+    void testPlayerStandAndResolve_ThrowsWhenNotPlayerTurn() {
+        Game game = createGameWithCrupierTurn();
+
+        assertThrows(NotPlayerTurnException.class, game::playerStandAndResolve);
+        assertEquals(0, game.getCrupier().getCardCount());
+    }
+
+    @Test
+    void testReconstruct_RestoresRemainingShoeWithoutReshuffle() {
+        // Given: A started game whose shoe state was persisted
+        Game game = createTestGame();
+        game.startGame();
+        byte[] shoeState = game.getDeck().toShoeState();
+        Card nextCard = game.getDeck().getCardsSnapshot().getFirst();
+
+        // When
+        Game restored = Game.reconstruct(
+                game.getId(),
+                game.getPlayer().getId(),
+                game.getPlayer().getName(),
+                List.of(), List.of(),
+                game.getGameStatus(), game.getGameResult(),
+                shoeState);
+
+        // Then: Same cards in the same order
+        assertEquals(48, restored.getDeck().size());
+        assertEquals(game.getDeck().getCardsSnapshot(), restored.getDeck().getCardsSnapshot());
+        assertEquals(nextCard, restored.drawCardFromDeck());
+    }
+
+    @Test
+    void testReconstruct_WithoutShoeState_ExcludesDealtCards() {
+        // Given: A legacy game document with no shoe state
+        List<CardData> playerCards = List.of(
+                new CardData("ACE", "SPADES", 11),
+                new CardData("KING", "HEARTS", 10));
+        List<CardData> crupierCards = List.of(new CardData("TEN", "DIAMONDS", 10));
+
+        // When
+        Game restored = Game.reconstruct(
+                UUID.randomUUID(), UUID.randomUUID(), "Legacy",
+                playerCards, crupierCards,
+                GameStatus.PLAYER_TURN, GameResult.NO_RESULTS_YET,
+                null);
+
+        // Then: The dealt cards can't be drawn again
+        List<Card> remaining = restored.getDeck().getCardsSnapshot();
+        assertEquals(49, remaining.size());
+        assertFalse(remaining.contains(new Card(CardRank.ACE, Suit.SPADES)));
+        assertFalse(remaining.contains(new Card(CardRank.KING, Suit.HEARTS)));
+        assertFalse(remaining.contains(new Card(CardRank.TEN, Suit.DIAMONDS)));
+    }
+
 }
@@ -0,0 +1,127 @@
+package com.itacademy.blackjack.game.model;
+
+import com.itacademy.blackjack.deck.model.Card;
+import com.itacademy.blackjack.deck.model.CardRank;
+import com.itacademy.blackjack.deck.model.Deck;
+import com.itacademy.blackjack.deck.model.ScoringService;
+import com.itacademy.blackjack.deck.model.Suit;
+import com.itacademy.blackjack.game.domain.model.Hand;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HandTest {
+
+    @Test
+    void testSoftHandCountsAceAsEleven() {
+        Hand hand = new Hand(List.of(Card.of(CardRank.ACE, Suit.HEARTS), Card.of(CardRank.SIX, Suit.CLUBS)));
+
+        assertEquals(17, hand.getScore());
+        assertEquals(7, hand.getHardTotal());
+        assertTrue(hand.isSoft());
+    }
+
+    @Test
+    void testSoftHandBecomesHardInsteadOfBusting() {
+        Hand hand = new Hand(List.of(Card.of(CardRank.ACE, Suit.HEARTS), Card.of(CardRank.SIX, Suit.CLUBS)));
+
+        hand.addCard(Card.of(CardRank.NINE, Suit.SPADES));
+
+        assertEquals(16, hand.getScore());
+        assertFalse(hand.isSoft());
+        assertFalse(hand.isBusted());
+    }
+
+    @Test
+    void testBlackjackNeedsExactlyTwoCards() {
+        Hand blackjack = new Hand(List.of(Card.of(CardRank.ACE, Suit.HEARTS), Card.of(CardRank.KING, Suit.CLUBS)));
+        Hand threeCardTwentyOne = new Hand(List.of(
+                Card.of(CardRank.SEVEN, Suit.HEARTS),
+                Card.of(CardRank.SEVEN, Suit.CLUBS),
+                Card.of(CardRank.SEVEN, Suit.SPADES)));
+
+        assertTrue(blackjack.isBlackjack());
+        assertFalse(threeCardTwentyOne.isBlackjack());
+        assertEquals(21, threeCardTwentyOne.getScore());
+    }
+
+    @Test
+    void testIncrementalScoreMatchesScoringService() {
+        Random random = new Random(7);
+        for (int round = 0; round < 1_000; round++) {
+            Deck deck = new Deck(random);
+            Hand hand = new Hand();
+            for (int i = 0; i < 6; i++) {
+                hand.addCard(deck.draw());
+                assertEquals(ScoringService.calculateHandScore(hand.getCards()), hand.getScore());
+            }
+        }
+    }
+
+    @Test
+    void testGetCardsIsACopy() {
+        Hand hand = new Hand();
+        hand.addCard(Card.of(CardRank.TWO, Suit.HEARTS));
+        List<Card> cards = hand.getCards();
+
+        hand.addCard(Card.of(CardRank.KING, Suit.SPADES));
+
+        assertEquals(List.of(Card.of(CardRank.TWO, Suit.HEARTS)), cards);
+        assertThrows(UnsupportedOperationException.class, () -> cards.add(Card.of(CardRank.ACE, Suit.CLUBS)));
+    }
+
+    @Test
+    void testCardsViewIsReadOnlyAndKeepsOrder() {
+        Hand hand = new Hand();
+        hand.addCard(Card.of(CardRank.TWO, Suit.HEARTS));
+        List<Card> cards = hand.cardsView();
+
+        hand.addCard(Card.of(CardRank.KING, Suit.SPADES));
+
+        assertEquals(List.of(Card.of(CardRank.TWO, Suit.HEARTS), Card.of(CardRank.KING, Suit.SPADES)), cards);
+        assertThrows(UnsupportedOperationException.class, () -> cards.add(Card.of(CardRank.ACE, Suit.CLUBS)));
+    }
+
+    @Test
+    void testHandsWithSameCardsAreEqual() {
+        List<Card> cards = List.of(
+                Card.of(CardRank.ACE, Suit.SPADES),
+                Card.of(CardRank.TEN, Suit.DIAMONDS),
+                Card.of(CardRank.FIVE, Suit.CLUBS));
+
+        assertEquals(new Hand(cards), new Hand(cards));
+        assertEquals(new Hand(cards).hashCode(), new Hand(cards).hashCode());
+        assertNotEquals(new Hand(cards), new Hand(cards.subList(0, 2)));
+    }
+
+    @Test
+    void testHandHoldsTheLongestHandOfAMultiDeckShoe() {
+        Hand hand = new Hand();
+        for (int i = 0; i < 21; i++) {
+            hand.addCard(Card.of(CardRank.ACE, Suit.values()[i % 4]));
+        }
+        assertEquals(21, hand.getScore());
+
+        hand.addCard(Card.of(CardRank.TWO, Suit.HEARTS));
+
+        assertEquals(22, hand.getCardCount());
+        assertTrue(hand.isBusted());
+        assertEquals(Card.of(CardRank.TWO, Suit.HEARTS), hand.getCard(21));
+    }
+
+    @Test
+    void testHandKeepsCardsBeyondTheFirstPackedWord() {
+        Hand hand = new Hand();
+        for (int i = 0; i < Hand.MAX_CARDS; i++) {
+            hand.addCard(Card.ofOrdinal(i));
+        }
+
+        for (int i = 0; i < Hand.MAX_CARDS; i++) {
+            assertEquals(Card.ofOrdinal(i), hand.getCard(i));
+        }
+        assertThrows(IllegalStateException.class, () -> hand.addCard(Card.ofOrdinal(51)));
+    }
+}
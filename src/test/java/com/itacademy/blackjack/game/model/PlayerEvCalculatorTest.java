@@ -0,0 +1,125 @@
+package com.itacademy.blackjack.game.model;
+
+import com.itacademy.blackjack.game.domain.model.DealerOddsCalculator;
+import com.itacademy.blackjack.game.domain.model.PlayerEv;
+import com.itacademy.blackjack.game.domain.model.PlayerEvCalculator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlayerEvCalculatorTest {
+
+    // A fresh deck without the player's two cards and the upcard
+    private static int[] unseen(int first, int second, int upcard) {
+        int[] counts = DealerOddsCalculator.shoeCounts(1);
+        counts[first]--;
+        counts[second]--;
+        counts[upcard]--;
+        return counts;
+    }
+
+    private static PlayerEv evaluate(int first, int second, int upcard) {
+        return new PlayerEvCalculator(1 << 16)
+                .evaluate(first + second, first == 1 || second == 1, upcard, unseen(first, second, upcard));
+    }
+
+    // No memo: stand against the crupier's odds, or take each card and play on as well as possible
+    private static double bruteForceBest(int hard, boolean hasAce, int upcard, int[] counts, boolean mayStand) {
+        int score = hasAce && hard <= 11 ? hard + 10 : hard;
+        double[] dealer = new double[DealerOddsCalculator.OUTCOMES];
+        new DealerOddsCalculator(1 << 12).finalTotals(upcard, upcard == 1, counts, dealer);
+        double stand = dealer[DealerOddsCalculator.BUST];
+        for (int total = 17; total <= 21; total++) {
+            stand += Integer.signum(score - total) * dealer[total - 17];
+        }
+
+        int remaining = Arrays.stream(counts).sum();
+        double hit = 0;
+        for (int value = 1; value <= 10; value++) {
+            if (counts[value] == 0) {
+                continue;
+            }
+            double probability = (double) counts[value] / remaining;
+            if (hard + value > 21) {
+                hit -= probability;
+                continue;
+            }
+            counts[value]--;
+            hit += probability * bruteForceBest(hard + value, hasAce || value == 1, upcard, counts, true);
+            counts[value]++;
+        }
+        return mayStand ? Math.max(stand, hit) : hit;
+    }
+
+    @ParameterizedTest(name = "{0} and {1} against {2}")
+    @CsvSource({"10, 6, 10", "1, 6, 7", "9, 5, 1", "10, 8, 6"})
+    void evaluate_matchesAnUnmemoizedSearch(int first, int second, int upcard) {
+        int[] counts = unseen(first, second, upcard);
+        boolean hasAce = first == 1 || second == 1;
+
+        PlayerEv ev = evaluate(first, second, upcard);
+
+        assertEquals(bruteForceBest(first + second, hasAce, upcard, counts.clone(), false), ev.hit(), 1e-12);
+        assertTrue(ev.stand() >= -1.0 && ev.stand() <= 1.0);
+    }
+
+    // Single-deck basic strategy, crupier standing on soft 17
+    @ParameterizedTest(name = "{0} and {1} against {2}: hit {3}")
+    @CsvSource({
+            "7, 5, 6, false",    // 12 against a six stands
+            "10, 2, 2, true",    // 12 against a two hits
+            "6, 5, 6, true",     // 11 always hits
+            "10, 7, 10, false",  // hard 17 stands
+            "1, 6, 7, true",     // soft 17 hits
+            "1, 7, 7, false",    // soft 18 against a seven stands
+            "1, 7, 9, true",     // soft 18 against a nine hits
+            "10, 3, 10, true",   // 13 against a ten hits
+            "10, 3, 4, false",   // 13 against a four stands
+            "10, 6, 10, true"    // two-card 16 against a ten hits
+    })
+    void evaluate_agreesWithSingleDeckBasicStrategy(int first, int second, int upcard, boolean hit) {
+        assertEquals(hit, evaluate(first, second, upcard).shouldHit());
+    }
+
+    @Test
+    void evaluate_hittingHardTwentyOneAlwaysBusts() {
+        int[] counts = unseen(10, 10, 6);
+        counts[1]--;
+
+        PlayerEv ev = new PlayerEvCalculator(1 << 12).evaluate(21, true, 6, counts);
+
+        assertEquals(-1.0, ev.hit());
+        assertTrue(ev.stand() > 0.8);
+    }
+
+    @Test
+    void evaluate_sameResultWhenTheMemosAreClearedMidway() {
+        PlayerEv roomy = new PlayerEvCalculator(1 << 16).evaluate(6, false, 9, unseen(4, 2, 9));
+        PlayerEv tiny = new PlayerEvCalculator(16).evaluate(6, false, 9, unseen(4, 2, 9));
+
+        assertEquals(roomy.stand(), tiny.stand(), 1e-12);
+        assertEquals(roomy.hit(), tiny.hit(), 1e-12);
+    }
+
+    @Test
+    void situation_onlyDependsOnTotalsUpcardAndCounts() {
+        int[] counts = unseen(10, 6, 10);
+
+        assertEquals(PlayerEvCalculator.situation(16, false, 10, counts),
+                PlayerEvCalculator.situation(16, true, 10, counts));
+        assertNotEquals(PlayerEvCalculator.situation(16, false, 10, counts),
+                PlayerEvCalculator.situation(16, false, 9, counts));
+        assertNotEquals(PlayerEvCalculator.situation(6, false, 10, counts),
+                PlayerEvCalculator.situation(6, true, 10, counts));
+    }
+
+    @Test
+    void evaluate_rejectsBustedHands() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new PlayerEvCalculator(16).evaluate(22, false, 6, unseen(10, 6, 6)));
+    }
+}
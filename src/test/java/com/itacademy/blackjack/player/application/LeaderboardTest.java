@@ -0,0 +1,112 @@
+package com.itacademy.blackjack.player.application;
+
+import com.itacademy.blackjack.player.application.dto.PlayerRankingResponse;
+import com.itacademy.blackjack.player.application.dto.RankingCursor;
+import com.itacademy.blackjack.player.domain.model.Player;
+import com.itacademy.blackjack.player.domain.repository.PlayerRepository;
+import com.itacademy.blackjack.shared.Uuids;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class LeaderboardTest {
+
+    private Leaderboard leaderboard;
+
+    @BeforeEach
+    void setUp() {
+        leaderboard = new Leaderboard(mock(PlayerRepository.class));
+    }
+
+    private static Player player(String name, int wins) {
+        return Player.fromDatabase(UUID.randomUUID(), name, wins, 0, 0);
+    }
+
+    @Test
+    void top_returnsPlayersByWinsDescending() {
+        Player ana = player("Ana", 3);
+        Player bob = player("Bob", 7);
+        Player eva = player("Eva", 5);
+        leaderboard.seed(List.of(ana, bob, eva));
+
+        List<Player> top = leaderboard.top(2);
+
+        assertEquals(List.of("Bob", "Eva"), top.stream().map(Player::getName).toList());
+        assertTrue(leaderboard.isSeeded());
+    }
+
+    @Test
+    void update_movesThePlayerAndKeepsItsName() {
+        Player ana = player("Ana", 3);
+        Player bob = player("Bob", 7);
+        leaderboard.seed(List.of(ana, bob));
+
+        leaderboard.update(Player.fromDatabase(ana.getId(), null, 8, 0, 0));
+
+        assertEquals(1, leaderboard.rankOf(ana.getId()).getAsInt());
+        assertEquals(2, leaderboard.rankOf(bob.getId()).getAsInt());
+        assertEquals("Ana", leaderboard.top(1).getFirst().getName());
+        assertEquals(2, leaderboard.size());
+    }
+
+    @Test
+    void remove_dropsThePlayerFromTheRanking() {
+        Player ana = player("Ana", 3);
+        Player bob = player("Bob", 7);
+        leaderboard.seed(List.of(ana, bob));
+
+        leaderboard.remove(bob.getId());
+
+        assertTrue(leaderboard.rankOf(bob.getId()).isEmpty());
+        assertEquals(1, leaderboard.rankOf(ana.getId()).getAsInt());
+    }
+
+    @Test
+    void page_continuesRightAfterTheCursor() {
+        Player ana = player("Ana", 3);
+        Player bob = player("Bob", 7);
+        Player eva = player("Eva", 5);
+        leaderboard.seed(List.of(ana, bob, eva));
+
+        List<PlayerRankingResponse> first = leaderboard.page(null, 2);
+        PlayerRankingResponse last = first.getLast();
+        List<PlayerRankingResponse> second = leaderboard.page(
+                new RankingCursor(last.wins(), UUID.fromString(last.playerId())), 2);
+
+        assertEquals(List.of("Bob", "Eva"), first.stream().map(PlayerRankingResponse::playerName).toList());
+        assertEquals(1, second.size());
+        assertEquals("Ana", second.getFirst().playerName());
+        assertEquals(3, second.getFirst().rank());
+    }
+
+    @Test
+    void rankOf_matchesTheSortedOrderAfterManyUpdates() {
+        Random random = new Random(7);
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            players.add(player("P" + i, random.nextInt(20)));
+        }
+        leaderboard.seed(players);
+        for (int i = 0; i < 500; i++) {
+            Player current = players.get(random.nextInt(players.size()));
+            Player updated = Player.fromDatabase(current.getId(), current.getName(), random.nextInt(20), 0, 0);
+            players.set(players.indexOf(current), updated);
+            leaderboard.update(updated);
+        }
+
+        players.sort(Comparator.comparingInt(Player::getWins).reversed().thenComparing(Player::getId, Uuids::compare));
+        for (int i = 0; i < players.size(); i++) {
+            assertEquals(i + 1, leaderboard.rankOf(players.get(i).getId()).getAsInt());
+        }
+        assertEquals(players.stream().map(Player::getId).toList(),
+                leaderboard.top(Integer.MAX_VALUE).stream().map(Player::getId).toList());
+    }
+}
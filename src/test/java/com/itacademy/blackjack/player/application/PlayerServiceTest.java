@@ -1,6 +1,9 @@
 package com.itacademy.blackjack.player.application;
 
 import com.itacademy.blackjack.game.application.dto.GameHistoryResponse;
+import com.itacademy.blackjack.game.application.dto.HistoryCursor;
+import com.itacademy.blackjack.game.domain.model.GameResult;
+import com.itacademy.blackjack.game.infrastructure.persistence.mongo.document.GameDocument;
 import com.itacademy.blackjack.game.infrastructure.persistence.mongo.repository.GameRepository;
 import com.itacademy.blackjack.player.application.dto.PlayerStatsResponse;
 import com.itacademy.blackjack.player.domain.model.Player;
@@ -16,11 +19,15 @@ import reactor.core.publisher.Flux;
 
 import reactor.test.StepVerifier;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @WebFluxTest(PlayerService.class)
@@ -39,12 +46,15 @@ class PlayerServiceTest {
     @MockBean
     private GameRepository gameRepository;
 
+    @MockBean
+    private Leaderboard leaderboard;
+
     @Test
     void testFindOrCreatePlayer_ReturnsExistingPlayer_WhenNameExists() {
         Player existingPlayer = Player.fromDatabase(
                 UUID.randomUUID(), "Juana", 5, 2, 1
         );
-        when(playerRepository.findByName("Juana")).thenReturn(Mono.just(existingPlayer));
+        when(playerRepository.findOrCreateByName(any(Player.class))).thenReturn(Mono.just(existingPlayer));
 
         StepVerifier.create(playerService.findOrCreatePlayer("Juana"))
                 .expectNextMatches(player ->
@@ -58,8 +68,7 @@ class PlayerServiceTest {
 
     @Test
     void testFindOrCreatePlayer_CreatesNewPlayer_WhenNameNotExists() {
-        when(playerRepository.findByName("NewPlayer")).thenReturn(Mono.empty());
-        when(playerRepository.save(any(Player.class))).thenAnswer(invocation ->
+        when(playerRepository.findOrCreateByName(any(Player.class))).thenAnswer(invocation ->
                 Mono.just(invocation.getArgument(0))
         );
 
@@ -85,7 +94,8 @@ class PlayerServiceTest {
                         LocalDateTime.now().toString(),
                         "PLAYER_WINS",
                         21,
-                        18
+                        18,
+                        null
                 )
         );
 
@@ -107,7 +117,7 @@ class PlayerServiceTest {
         when(playerRepository.findById(playerId)).thenReturn(Mono.just(player));
 
         // Mock game repository to return empty history
-        when(gameRepository.findDocumentsByPlayerId(any(UUID.class))).thenReturn(Flux.empty());
+        when(gameRepository.findHistoryPage(any(UUID.class), any(), any(), anyInt())).thenReturn(Flux.empty());
 
         // When & Then
         StepVerifier.create(playerService.getPlayerStats(playerId))
@@ -128,7 +138,7 @@ class PlayerServiceTest {
         when(playerRepository.findById(playerId)).thenReturn(Mono.empty());
 
         // Mock game repository to return empty flux
-        when(gameRepository.findDocumentsByPlayerId(any(UUID.class))).thenReturn(Flux.empty());
+        when(gameRepository.findHistoryPage(any(UUID.class), any(), any(), anyInt())).thenReturn(Flux.empty());
 
         // When & Then - PlayerService returns empty Mono, but getPlayerStats doesn't handle empty
         // So we need to check what happens when getPlayerStats returns empty
@@ -146,4 +156,71 @@ class PlayerServiceTest {
                 .verifyComplete();
     }
 
+    @Test
+    void testUpdatePlayerStats_IncrementsInTheDatabase() {
+        UUID playerId = UUID.randomUUID();
+        when(playerRepository.incrementResult(playerId, GameResult.BLACKJACK)).thenReturn(
+                Mono.just(Player.fromDatabase(playerId, "Test", 4, 1, 1))
+        );
+
+        StepVerifier.create(playerService.updatePlayerStats(playerId, GameResult.BLACKJACK))
+                .expectNextMatches(player -> player.getWins() == 4)
+                .verifyComplete();
+
+        verify(playerRepository, never()).findById(any(UUID.class));
+        verify(playerRepository, never()).updateStats(any(UUID.class), anyInt(), anyInt(), anyInt());
+    }
+
+    @Test
+    void testRevertPlayerStats_DecrementsInTheDatabase() {
+        UUID playerId = UUID.randomUUID();
+        Player reverted = Player.fromDatabase(playerId, "Test", 3, 1, 1);
+        when(playerRepository.decrementResult(playerId, GameResult.PLAYER_WINS)).thenReturn(Mono.just(reverted));
+
+        StepVerifier.create(playerService.revertPlayerStats(playerId, GameResult.PLAYER_WINS))
+                .expectNext(reverted)
+                .verifyComplete();
+
+        verify(leaderboard).update(reverted);
+        verify(playerRepository, never()).updateStats(any(UUID.class), anyInt(), anyInt(), anyInt());
+    }
+
+    @Test
+    void testGetPlayerGameHistory_MapsProjectedGamesWithCursor() {
+        UUID playerId = UUID.randomUUID();
+        UUID gameId = UUID.randomUUID();
+        Instant finishedAt = Instant.ofEpochMilli(1_700_000_000_000L);
+        GameDocument game = GameDocument.builder()
+                .id(gameId)
+                .gameResult(GameResult.CRUPIER_WINS)
+                .playerScore(18)
+                .crupierScore(20)
+                .finishedAt(finishedAt)
+                .build();
+        HistoryCursor before = new HistoryCursor(Instant.ofEpochMilli(1_800_000_000_000L), UUID.randomUUID());
+        when(gameRepository.findHistoryPage(playerId, before.finishedAt(), before.gameId(), 5))
+                .thenReturn(Flux.just(game));
+
+        StepVerifier.create(playerService.getPlayerGameHistory(playerId, 5, before))
+                .expectNextMatches(history ->
+                        history.gameId().equals(gameId.toString()) &&
+                                history.result().equals("CRUPIER_WINS") &&
+                                history.dealerScore() == 20 &&
+                                history.cursor().equals(new HistoryCursor(finishedAt, gameId).toString()))
+                .verifyComplete();
+    }
+
+    @Test
+    void testGetPlayerStats_OnlyLoadsRecentGames() {
+        UUID playerId = UUID.randomUUID();
+        when(playerRepository.findById(playerId)).thenReturn(Mono.just(Player.fromDatabase(playerId, "Juana", 5, 2, 1)));
+        when(gameRepository.findHistoryPage(playerId, null, null, PlayerService.RECENT_GAMES)).thenReturn(Flux.empty());
+
+        StepVerifier.create(playerService.getPlayerStats(playerId))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        verify(gameRepository).findHistoryPage(playerId, null, null, PlayerService.RECENT_GAMES);
+    }
+
 }
@@ -1,11 +1,13 @@
 package com.itacademy.blackjack.player.application.dto;
 
 import com.itacademy.blackjack.game.domain.model.GameResult;
+import com.itacademy.blackjack.player.application.Leaderboard;
 import com.itacademy.blackjack.player.application.PlayerService;
 import com.itacademy.blackjack.player.domain.model.Player;
 import com.itacademy.blackjack.player.domain.repository.PlayerRepository;
 import com.itacademy.blackjack.player.infrastructure.persistence.r2dbc.PlayerMapper;
 import com.itacademy.blackjack.game.infrastructure.persistence.mongo.repository.GameRepository;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -27,29 +29,37 @@ public class PlayerRankingTest {
     @Mock
     GameRepository gameRepository;
 
-    @Test
-    void shouldReturnPlayersOrderedByWinsDesc() {
+    private Player alice;
+    private Player bob;
+    private PlayerService playerService;
+
+    @BeforeEach
+    void setUp() {
         // Given - Create real players
-        Player player1 = Player.createNew("Alice");
-        player1.applyGameResult(GameResult.PLAYER_WINS);
-        player1.applyGameResult(GameResult.PLAYER_WINS);
+        alice = Player.createNew("Alice");
+        alice.applyGameResult(GameResult.PLAYER_WINS);
+        alice.applyGameResult(GameResult.PLAYER_WINS);
 
-        Player player2 = Player.createNew("Bob");
-        player2.applyGameResult(GameResult.PLAYER_WINS);
+        bob = Player.createNew("Bob");
+        bob.applyGameResult(GameResult.PLAYER_WINS);
 
-        // Create the real service with mocked dependencies
-        PlayerService playerService = new PlayerService(
+        // Create the real service with mocked dependencies; the leaderboard is not seeded
+        playerService = new PlayerService(
                 playerRepository,
                 playerMapper,
-                gameRepository
+                gameRepository,
+                new Leaderboard(playerRepository)
         );
+    }
 
+    @Test
+    void shouldReturnFirstPageOrderedByWinsDesc() {
         // Mock the repository method
-        when(playerRepository.findAllByOrderByWinsDesc())
-                .thenReturn(Flux.just(player1, player2));
+        when(playerRepository.findRankingPage(0, null, 50))
+                .thenReturn(Flux.just(alice, bob));
 
         // When & Then
-        StepVerifier.create(playerService.getPlayerRanking())
+        StepVerifier.create(playerService.getPlayerRankingPage(50, null))
                 .expectNextMatches(ranking ->
                         ranking.rank() == 1 &&
                                 ranking.playerName().equals("Alice") &&
@@ -60,4 +70,17 @@ public class PlayerRankingTest {
                                 ranking.wins() == 1)
                 .verifyComplete();
     }
+
+    @Test
+    void shouldStreamWholeRankingOrderedByWinsDesc() {
+        // Mock the repository method
+        when(playerRepository.findAllByOrderByWinsDesc())
+                .thenReturn(Flux.just(alice, bob));
+
+        // When & Then
+        StepVerifier.create(playerService.streamPlayerRanking())
+                .expectNextMatches(ranking -> ranking.rank() == 1 && ranking.playerName().equals("Alice"))
+                .expectNextMatches(ranking -> ranking.rank() == 2 && ranking.playerName().equals("Bob"))
+                .verifyComplete();
+    }
 }
@@ -12,8 +12,8 @@ class PlayerStatsResponseTest {
     void testPlayerStatsResponseCreation() {
         // Given
         List<GameHistoryResponse> recentGames = List.of(
-                new GameHistoryResponse("1", "2024-01-15T10:30:00", "PLAYER_WINS", 21, 18),
-                new GameHistoryResponse("2", "2024-01-15T11:00:00", "CRUPIER_WINS", 19, 21)
+                new GameHistoryResponse("1", "2024-01-15T10:30:00", "PLAYER_WINS", 21, 18, null),
+                new GameHistoryResponse("2", "2024-01-15T11:00:00", "CRUPIER_WINS", 19, 21, null)
         );
 
         // When
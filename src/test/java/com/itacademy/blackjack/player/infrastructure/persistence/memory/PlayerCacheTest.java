@@ -0,0 +1,146 @@
+package com.itacademy.blackjack.player.infrastructure.persistence.memory;
+
+import com.itacademy.blackjack.game.domain.model.GameResult;
+import com.itacademy.blackjack.player.domain.model.Player;
+import com.itacademy.blackjack.player.infrastructure.persistence.r2dbc.PlayerRepositoryImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PlayerCacheTest {
+
+    @Mock
+    private PlayerRepositoryImpl players;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PlayerCache cache;
+
+    private final UUID playerId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new PlayerCache(players, meterRegistry, 100, Duration.ofMinutes(5));
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("blackjack.players.cache.requests").tag("result", result).counter().count();
+    }
+
+    @Test
+    void findById_concurrentMissesShareOneQuery() {
+        Sinks.One<Player> row = Sinks.one();
+        when(players.findById(playerId)).thenReturn(row.asMono());
+
+        Mono<Player> first = cache.findById(playerId);
+        Mono<Player> second = cache.findById(playerId);
+        row.tryEmitValue(Player.fromDatabase(playerId, "Ana", 1, 0, 0));
+
+        StepVerifier.create(Mono.zip(first, second))
+                .assertNext(both -> {
+                    assertEquals("Ana", both.getT1().getName());
+                    assertNotSame(both.getT1(), both.getT2());
+                })
+                .verifyComplete();
+
+        verify(players, times(1)).findById(playerId);
+        assertEquals(1.0, requests("miss"));
+        assertEquals(1.0, requests("coalesced"));
+        assertEquals(0.0, requests("hit"));
+        assertEquals(1, meterRegistry.get("blackjack.players.cache.load").timer().count());
+    }
+
+    @Test
+    void findByName_concurrentMissesShareOneQuery() {
+        Sinks.One<Player> row = Sinks.one();
+        when(players.findByName("Ana")).thenReturn(row.asMono());
+
+        Mono<Player> first = cache.findByName("Ana");
+        Mono<Player> second = cache.findByName("Ana");
+        row.tryEmitValue(Player.fromDatabase(playerId, "Ana", 1, 0, 0));
+
+        StepVerifier.create(Mono.zip(first, second))
+                .assertNext(both -> assertEquals(both.getT1().getId(), both.getT2().getId()))
+                .verifyComplete();
+
+        verify(players, times(1)).findByName("Ana");
+        assertEquals(1.0, requests("miss"));
+        assertEquals(1.0, requests("coalesced"));
+        assertEquals(0.0, requests("hit"));
+    }
+
+    @Test
+    void findByName_afterFindById_isServedFromMemory() {
+        when(players.findById(playerId)).thenReturn(Mono.just(Player.fromDatabase(playerId, "Ana", 1, 0, 0)));
+        cache.findById(playerId).block();
+
+        StepVerifier.create(cache.findByName("Ana"))
+                .expectNextMatches(player -> player.getId().equals(playerId))
+                .verifyComplete();
+
+        verify(players, never()).findByName("Ana");
+    }
+
+    @Test
+    void incrementResult_replacesTheCachedCounters() {
+        when(players.findById(playerId)).thenReturn(Mono.just(Player.fromDatabase(playerId, "Ana", 1, 0, 0)));
+        when(players.incrementResult(playerId, GameResult.PLAYER_WINS))
+                .thenReturn(Mono.just(Player.fromDatabase(playerId, "Ana", 2, 0, 0)));
+        cache.findById(playerId).block();
+
+        cache.incrementResult(playerId, GameResult.PLAYER_WINS).block();
+
+        StepVerifier.create(cache.findById(playerId))
+                .expectNextMatches(player -> player.getWins() == 2)
+                .verifyComplete();
+        verify(players, times(1)).findById(playerId);
+    }
+
+    @Test
+    void deleteById_dropsThePlayer() {
+        when(players.findById(playerId)).thenReturn(Mono.just(Player.fromDatabase(playerId, "Ana", 1, 0, 0)));
+        when(players.deleteById(playerId)).thenReturn(Mono.empty());
+        cache.findById(playerId).block();
+
+        cache.deleteById(playerId).block();
+        cache.findById(playerId).block();
+
+        verify(players, times(2)).findById(playerId);
+        assertEquals(0.0, requests("hit"));
+    }
+
+    @Test
+    void findById_missingPlayerIsNotCached() {
+        when(players.findById(playerId)).thenReturn(Mono.empty());
+
+        StepVerifier.create(cache.findById(playerId)).verifyComplete();
+        StepVerifier.create(cache.findById(playerId)).verifyComplete();
+
+        verify(players, times(2)).findById(playerId);
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void findById_expiredEntryIsLoadedAgain() {
+        cache = new PlayerCache(players, meterRegistry, 100, Duration.ZERO);
+        when(players.findById(playerId)).thenReturn(Mono.just(Player.fromDatabase(playerId, "Ana", 1, 0, 0)));
+
+        cache.findById(playerId).block();
+        cache.findById(playerId).block();
+
+        verify(players, times(2)).findById(playerId);
+    }
+}
@@ -1,5 +1,6 @@
 package com.itacademy.blackjack.player.infrastructure.persistence.r2dbc;
 
+import com.itacademy.blackjack.exception.PlayerConflictException;
 import com.itacademy.blackjack.player.domain.model.Player;
 import com.itacademy.blackjack.player.domain.repository.PlayerRepository;
 import org.junit.jupiter.api.Test;
@@ -44,4 +45,20 @@ class PlayerRepositoryImplTest {
                 .expectNextMatches(p -> p.getId().equals(playerId))
                 .verifyComplete();
     }
+
+    @Test
+    void save_takenName_failsWithoutOverwritingTheStoredPlayer() {
+        // Given
+        UUID playerId = UUID.randomUUID();
+        String name = "Taken-" + playerId;
+        playerRepository.save(Player.fromDatabase(playerId, name, 5, 2, 1)).block();
+
+        // When & Then
+        StepVerifier.create(playerRepository.save(Player.fromDatabase(UUID.randomUUID(), name, 0, 0, 0)))
+                .expectError(PlayerConflictException.class)
+                .verify();
+        StepVerifier.create(playerRepository.findByName(name))
+                .expectNextMatches(p -> p.getId().equals(playerId) && p.getWins() == 5)
+                .verifyComplete();
+    }
 }
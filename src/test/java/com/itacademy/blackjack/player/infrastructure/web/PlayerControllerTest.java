@@ -2,11 +2,15 @@ package com.itacademy.blackjack.player.infrastructure.web;
 
 import com.itacademy.blackjack.config.TestcontainersInitializer;
 import com.itacademy.blackjack.game.application.GameService;
+import com.itacademy.blackjack.game.application.dto.GameHistoryResponse;
 import com.itacademy.blackjack.game.application.dto.GameResponse;
+import com.itacademy.blackjack.game.application.dto.HistoryCursor;
 import com.itacademy.blackjack.game.domain.model.GameStatus;
 import com.itacademy.blackjack.game.domain.model.PlayerStatus;
 import com.itacademy.blackjack.player.application.PlayerService;
 import com.itacademy.blackjack.player.application.dto.PlayerProfileResponse;
+import com.itacademy.blackjack.player.application.dto.PlayerRankingResponse;
+import com.itacademy.blackjack.player.application.dto.RankingCursor;
 import com.itacademy.blackjack.player.domain.model.Player;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,8 +24,10 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Instant;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -114,6 +120,54 @@ class PlayerControllerTest {
                 .expectStatus().is5xxServerError();
     }
 
+    @Test
+    void testGetPlayerRanking_PassesLimitAndCursorToService() {
+        RankingCursor cursor = new RankingCursor(5, testPlayerId);
+        when(playerService.getPlayerRankingPage(10, cursor)).thenReturn(Flux.just(
+                new PlayerRankingResponse(4, UUID.randomUUID().toString(), "Next", 4, 0, 0)
+        ));
+
+        webTestClient.get()
+                .uri("/players/ranking?limit=10&after={after}", cursor.toString())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].rank").isEqualTo(4)
+                .jsonPath("$[0].playerName").isEqualTo("Next");
+    }
+
+    @Test
+    void testGetPlayerRanking_ReturnsBadRequest_WhenCursorIsInvalid() {
+        webTestClient.get()
+                .uri("/players/ranking?after=not-a-cursor")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void testGetPlayerGameHistory_PassesLimitAndCursorToService() {
+        HistoryCursor cursor = new HistoryCursor(Instant.ofEpochMilli(1_700_000_000_000L), UUID.randomUUID());
+        when(playerService.getPlayerGameHistory(testPlayerId, 5, cursor)).thenReturn(Flux.just(
+                new GameHistoryResponse(UUID.randomUUID().toString(), "Nov 14, 22:13", "PUSH", 20, 20, "1_x")
+        ));
+
+        webTestClient.get()
+                .uri("/players/{id}/history?limit=5&before={before}", testPlayerId, cursor.toString())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].result").isEqualTo("PUSH")
+                .jsonPath("$[0].cursor").isEqualTo("1_x");
+    }
+
+    @Test
+    void testGetPlayerGameHistory_ReturnsBadRequest_WhenLimitIsTooLarge() {
+        webTestClient.get()
+                .uri("/players/{id}/history?limit=1000", testPlayerId)
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
     @Import(TestcontainersInitializer.class)
     @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
     static
@@ -0,0 +1,55 @@
+package com.itacademy.blackjack.shared;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidsTest {
+
+    @Test
+    void v7_hasVersionAndVariantBits() {
+        UUID id = Uuids.v7();
+
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+    }
+
+    @Test
+    void v7_idsIncreaseInByteOrder() {
+        UUID previous = Uuids.v7();
+        for (int i = 0; i < 10_000; i++) {
+            UUID next = Uuids.v7();
+            assertTrue(Uuids.compare(previous, next) < 0);
+            assertTrue(Arrays.compareUnsigned(Uuids.toBytes(previous), Uuids.toBytes(next)) < 0);
+            previous = next;
+        }
+    }
+
+    @Test
+    void bytes_roundTrip() {
+        UUID id = UUID.fromString("f81d4fae-7dec-11d0-a765-00a0c91e6bf6");
+
+        byte[] bytes = Uuids.toBytes(id);
+
+        assertEquals(16, bytes.length);
+        assertEquals((byte) 0xf8, bytes[0]);
+        assertEquals(id, Uuids.fromBytes(bytes));
+    }
+
+    @Test
+    void compare_isUnsigned() {
+        UUID high = UUID.fromString("f0000000-0000-7000-8000-000000000000");
+        UUID low = UUID.fromString("10000000-0000-7000-8000-000000000000");
+
+        assertTrue(high.compareTo(low) < 0);
+        assertTrue(Uuids.compare(high, low) > 0);
+    }
+
+    @Test
+    void fromBytes_rejectsWrongLength() {
+        assertThrows(IllegalArgumentException.class, () -> Uuids.fromBytes(new byte[36]));
+    }
+}
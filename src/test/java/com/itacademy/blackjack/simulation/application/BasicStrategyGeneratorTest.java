@@ -0,0 +1,28 @@
+package com.itacademy.blackjack.simulation.application;
+
+import com.itacademy.blackjack.game.domain.model.BasicStrategy;
+import com.itacademy.blackjack.game.domain.model.PlayerEvCalculator;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BasicStrategyGeneratorTest {
+
+    // Fails when the rules changed and the shipped table was not regenerated
+    @Test
+    void generate_reproducesTheShippedTable() {
+        BasicStrategy generated = BasicStrategyGenerator.generate(2);
+
+        assertEquals(BasicStrategy.load(), generated, () -> "Regenerate the table:\n" + generated);
+    }
+
+    @Test
+    void hitAdvantage_usesThreeCardHandsForTotalsTwoCardsCannotMake() {
+        PlayerEvCalculator calculator = new PlayerEvCalculator(1 << 14);
+
+        assertTrue(BasicStrategyGenerator.hitAdvantage(calculator, 21, false, 10) < 0);
+        assertTrue(BasicStrategyGenerator.hitAdvantage(calculator, 21, true, 10) < 0);
+        assertTrue(BasicStrategyGenerator.hitAdvantage(calculator, 11, false, 10) > 0);
+    }
+}
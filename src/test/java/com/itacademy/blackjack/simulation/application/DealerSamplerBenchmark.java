@@ -0,0 +1,84 @@
+package com.itacademy.blackjack.simulation.application;
+
+import com.itacademy.blackjack.deck.model.Card;
+import com.itacademy.blackjack.deck.model.CardRank;
+import com.itacademy.blackjack.deck.model.Deck;
+import com.itacademy.blackjack.deck.model.Suit;
+import com.itacademy.blackjack.game.domain.model.Crupier;
+import com.itacademy.blackjack.game.domain.model.Game;
+import com.itacademy.blackjack.player.domain.model.Player;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Crupier hands from a six upcard: one {@link Game#crupierTurn()} per hand on domain
+ * objects, against the primitive samplers playing {@value #HANDS} hands per call.
+ * Scores are per hand.
+ * <p>
+ * Run with: ./mvnw -Pbenchmark test-compile exec:exec -Djmh.include=DealerSamplerBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Thread)
+public class DealerSamplerBenchmark {
+
+    private static final int HANDS = 4096;
+    private static final Card UPCARD = Card.of(CardRank.SIX, Suit.HEARTS);
+    private static final UUID ID = new UUID(0L, 0L);
+
+    private final long[] outcomes = new long[DealerSampler.OUTCOMES];
+    private Deck shoe;
+    private Player player;
+    private SplittableRandom random;
+    private ScalarDealerSampler scalar;
+    private DealerSampler vector;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        random = new SplittableRandom(42);
+        shoe = new Deck(6, random.split());
+        player = Player.fromDatabase(ID, "benchmark", 0, 0, 0);
+        scalar = new ScalarDealerSampler();
+        vector = DealerSampler.create();
+        if (!(vector instanceof VectorDealerSampler)) {
+            throw new IllegalStateException("jdk.incubator.vector is not enabled in the forked JVM");
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(HANDS)
+    public int gameCrupierTurn() {
+        int busts = 0;
+        for (int i = 0; i < HANDS; i++) {
+            if (shoe.size() < 20) {
+                shoe.reset();
+            }
+            Crupier crupier = new Crupier();
+            crupier.receiveCard(UPCARD);
+            Game game = Game.builder().id(ID).player(player).crupier(crupier).deck(shoe).build();
+            game.crupierTurn();
+            busts += crupier.isBusted() ? 1 : 0;
+        }
+        return busts;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(HANDS)
+    public long scalarBatch() {
+        scalar.sample(UPCARD.getNumericValue(), HANDS, random, outcomes);
+        return outcomes[DealerSampler.BUST];
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(HANDS)
+    public long vectorBatch() {
+        vector.sample(UPCARD.getNumericValue(), HANDS, random, outcomes);
+        return outcomes[DealerSampler.BUST];
+    }
+}
@@ -0,0 +1,76 @@
+package com.itacademy.blackjack.simulation.application;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class DealerSamplerTest {
+
+    // 37 hands leave a partial last batch for any vector width
+    private static final int HANDS = 37;
+
+    private static long[] outcomes(int total) {
+        long[] outcomes = new long[DealerSampler.OUTCOMES];
+        outcomes[total > 21 ? DealerSampler.BUST : total - 17] = HANDS;
+        return outcomes;
+    }
+
+    @ParameterizedTest(name = "upcard {0}, every card {1}: {2}")
+    @CsvSource({
+            "1, 6, 17",   // soft 17 stands
+            "10, 1, 21",  // ace on a ten is 21
+            "5, 2, 17",   // 7, 9, 11, 13, 15, 17
+            "6, 10, 26",  // 16 hits and busts
+            "1, 1, 17"    // aces only: soft 12, 13 ... up to soft 17
+    })
+    void scalar_followsCrupierRules(int upcard, int card, int total) {
+        long[] outcomes = new long[DealerSampler.OUTCOMES];
+        new ScalarDealerSampler().sample(upcard, HANDS, new CardValues(new int[]{card}, 256), outcomes);
+
+        assertArrayEquals(outcomes(total), outcomes);
+    }
+
+    @ParameterizedTest(name = "upcard {0}, every card {1}")
+    @CsvSource({"1, 6", "10, 1", "5, 2", "6, 10", "1, 1", "2, 3", "9, 7"})
+    void vector_matchesScalar(int upcard, int card) {
+        assumeTrue(DealerSampler.VECTOR_AVAILABLE, "jdk.incubator.vector is not enabled");
+
+        long[] scalar = new long[DealerSampler.OUTCOMES];
+        long[] vector = new long[DealerSampler.OUTCOMES];
+        new ScalarDealerSampler().sample(upcard, HANDS, new CardValues(new int[]{card}, 256), scalar);
+        new VectorDealerSampler().sample(upcard, HANDS, new CardValues(new int[]{card}, 256), vector);
+
+        assertArrayEquals(scalar, vector);
+    }
+
+    // Infinite-shoe bust rates with the crupier standing on soft 17
+    @ParameterizedTest(name = "upcard {0} busts {1}")
+    @CsvSource({"6, 0.4208", "10, 0.2139", "1, 0.1165"})
+    void sample_bustRateMatchesPublishedOdds(int upcard, double bustRate) {
+        int hands = 200_000;
+        for (DealerSampler sampler : DealerSampler.VECTOR_AVAILABLE
+                ? new DealerSampler[]{new ScalarDealerSampler(), new VectorDealerSampler()}
+                : new DealerSampler[]{new ScalarDealerSampler()}) {
+            long[] outcomes = new long[DealerSampler.OUTCOMES];
+            sampler.sample(upcard, hands, new SplittableRandom(11), outcomes);
+
+            assertEquals(hands, Arrays.stream(outcomes).sum(), sampler.name());
+            assertEquals(bustRate, outcomes[DealerSampler.BUST] / (double) hands, 0.006, sampler.name());
+        }
+    }
+
+    @Test
+    void create_usesTheVectorSamplerWhenTheModuleIsThere() {
+        DealerSampler sampler = DealerSampler.create();
+
+        assertTrue(sampler.name().startsWith(DealerSampler.VECTOR_AVAILABLE ? "vector" : "scalar"));
+    }
+}
@@ -0,0 +1,72 @@
+package com.itacademy.blackjack.simulation.application;
+
+import com.itacademy.blackjack.exception.InvalidRequestException;
+import com.itacademy.blackjack.simulation.application.dto.SimulationRequest;
+import com.itacademy.blackjack.simulation.application.dto.SimulationResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MonteCarloSimulatorTest {
+
+    private final MonteCarloSimulator simulator = new MonteCarloSimulator(4);
+
+    @AfterEach
+    void tearDown() {
+        simulator.shutdown();
+    }
+
+    @Test
+    void run_playsEveryHandOnce() {
+        SimulationResult result = simulator.run(new SimulationRequest(10_001L, 17, 4, 7L));
+
+        assertEquals(10_001, result.hands());
+        assertEquals(result.hands(), result.wins() + result.blackjacks() + result.losses() + result.pushes());
+        assertEquals(1.0, result.winRate() + result.blackjackRate() + result.lossRate() + result.pushRate(), 1e-9);
+        assertEquals(4, result.workers());
+    }
+
+    @Test
+    void run_sameSeedAndWorkersGiveTheSameCounts() {
+        SimulationResult first = simulator.run(new SimulationRequest(20_000L, 17, 3, 42L));
+        SimulationResult second = simulator.run(new SimulationRequest(20_000L, 17, 3, 42L));
+
+        assertEquals(first.wins(), second.wins());
+        assertEquals(first.blackjacks(), second.blackjacks());
+        assertEquals(first.losses(), second.losses());
+        assertEquals(first.pushes(), second.pushes());
+    }
+
+    @Test
+    void run_mimickingTheCrupierFavoursTheHouse() {
+        SimulationResult result = simulator.run(new SimulationRequest(200_000L, 17, 4, 1L));
+
+        // Busting first loses even when the crupier busts too; about 5.5% for this strategy
+        assertTrue(result.houseEdge() > 0.03 && result.houseEdge() < 0.08, () -> "house edge " + result.houseEdge());
+        // A natural on a single deck (2 * 4/52 * 16/51), less the ones the crupier matches
+        assertEquals(0.046, result.blackjackRate(), 0.003);
+    }
+
+    @Test
+    void run_neverStartsMoreWorkersThanHands() {
+        SimulationResult result = simulator.run(new SimulationRequest(2L, null, 8, 3L));
+
+        assertEquals(2, result.workers());
+        assertEquals(2, result.hands());
+    }
+
+    @Test
+    void run_rejectsOutOfRangeSettings() {
+        assertThrows(InvalidRequestException.class,
+                () -> simulator.run(new SimulationRequest(0L, null, null, null)));
+        assertThrows(InvalidRequestException.class,
+                () -> simulator.run(new SimulationRequest(SimulationRequest.MAX_HANDS + 1, null, null, null)));
+        assertThrows(InvalidRequestException.class,
+                () -> simulator.run(new SimulationRequest(10L, 23, null, null)));
+        assertThrows(InvalidRequestException.class,
+                () -> simulator.run(new SimulationRequest(10L, null, 0, null)));
+    }
+}
@@ -0,0 +1,56 @@
+package com.itacademy.blackjack.simulation.infrastructure.web;
+
+import com.itacademy.blackjack.exception.InvalidRequestException;
+import com.itacademy.blackjack.simulation.application.MonteCarloSimulator;
+import com.itacademy.blackjack.simulation.application.dto.SimulationRequest;
+import com.itacademy.blackjack.simulation.application.dto.SimulationResult;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@WebFluxTest(SimulationController.class)
+class SimulationControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private MonteCarloSimulator simulator;
+
+    @Test
+    void simulate_ReturnsRatesAndThroughput() {
+        when(simulator.run(new SimulationRequest(1000L, 17, 2, 5L)))
+                .thenReturn(SimulationResult.of(370, 46, 488, 96, 2, 5L, 1_000_000L));
+
+        webTestClient.post()
+                .uri("/simulations")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"hands\": 1000, \"standAt\": 17, \"workers\": 2, \"seed\": 5}")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.hands").isEqualTo(1000)
+                .jsonPath("$.winRate").isEqualTo(0.37)
+                .jsonPath("$.blackjackRate").isEqualTo(0.046)
+                .jsonPath("$.handsPerSecond").isEqualTo(1.0E6);
+    }
+
+    @Test
+    void simulate_ReturnsBadRequest_ForInvalidSettings() {
+        when(simulator.run(any(SimulationRequest.class)))
+                .thenThrow(new InvalidRequestException("hands must be between 1 and 100000000"));
+
+        webTestClient.post()
+                .uri("/simulations")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"hands\": 0}")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+}